@@ -0,0 +1,51 @@
+package com.lhstack.swagger.benchmarks;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 基准测试使用的应用：只注册生成的控制器，文档延迟扫描，由基准测试自己触发
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+public class BenchmarkApplication {
+
+    public static final String GROUP = "synthetic";
+
+    /**
+     * @param controllers 生成的控制器
+     * @return 启动后的应用上下文，使用随机端口
+     */
+    public static ConfigurableApplicationContext start(SyntheticControllers controllers) {
+        ClassLoader classLoader = controllers.getClassLoader();
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return new SpringApplicationBuilder(BenchmarkApplication.class)
+                    .resourceLoader(new DefaultResourceLoader(classLoader))
+                    .initializers(context -> {
+                        for (String each : controllers.getClassNames()) {
+                            ((GenericApplicationContext) context)
+                                    .registerBean(ClassUtils.resolveClassName(each, classLoader));
+                        }
+                    })
+                    .properties(
+                            "server.port=0",
+                            "spring.jmx.enabled=false",
+                            "spring.main.banner-mode=off",
+                            "logging.level.root=WARN",
+                            "springfox.documentation.bootstrap.mode=lazy",
+                            "knife4j.swagger.properties[0].group=" + GROUP,
+                            "knife4j.swagger.properties[0].base-package=" + SyntheticControllers.PACKAGE)
+                    .run();
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.lhstack.swagger.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 运行基准测试，未指定 {@code -prof} 时默认加上 GC 分析器以报告分配速率，其余参数与 JMH 相同。
+ * 先用 {@code mvn -Pbenchmarks package} 构建，再运行，例如
+ * {@code java -jar benchmarks/target/benchmarks.jar -p endpoints=1000 ScanBenchmark}
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        if (arguments.stream().noneMatch(each -> each.startsWith("-prof"))) {
+            arguments.add("-prof");
+            arguments.add("gc");
+        }
+        Main.main(arguments.toArray(new String[0]));
+    }
+}
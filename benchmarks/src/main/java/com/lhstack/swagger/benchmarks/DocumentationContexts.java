@@ -0,0 +1,48 @@
+package com.lhstack.swagger.benchmarks;
+
+import com.fasterxml.classmate.TypeResolver;
+import org.springframework.context.ApplicationContext;
+import springfox.documentation.PathProvider;
+import springfox.documentation.schema.AlternateTypeRuleConvention;
+import springfox.documentation.spi.service.DocumentationPlugin;
+import springfox.documentation.spi.service.RequestHandlerCombiner;
+import springfox.documentation.spi.service.RequestHandlerProvider;
+import springfox.documentation.spi.service.contexts.Defaults;
+import springfox.documentation.spi.service.contexts.DocumentationContext;
+import springfox.documentation.spring.web.DocumentationCache;
+import springfox.documentation.spring.web.plugins.AbstractDocumentationPluginsBootstrapper;
+import springfox.documentation.spring.web.plugins.DocumentationPluginsManager;
+import springfox.documentation.spring.web.scanners.ApiDocumentationScanner;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * 按启动时的方式构建分组的 {@link DocumentationContext}：同样的请求处理器、类型约定和默认配置
+ */
+public class DocumentationContexts extends AbstractDocumentationPluginsBootstrapper {
+
+    public DocumentationContexts(ApplicationContext context) {
+        super(
+                context.getBean(DocumentationPluginsManager.class),
+                context.getBeanProvider(RequestHandlerProvider.class).orderedStream().collect(toList()),
+                context.getBean(DocumentationCache.class),
+                context.getBean(ApiDocumentationScanner.class),
+                context.getBean(Defaults.class),
+                context.getBean(TypeResolver.class),
+                context.getBean(PathProvider.class));
+        setTypeConventions(context.getBeanProvider(AlternateTypeRuleConvention.class).orderedStream().collect(toList()));
+        context.getBeanProvider(RequestHandlerCombiner.class).ifAvailable(this::setCombiner);
+    }
+
+    /**
+     * @param groupName 分组名称
+     * @return 新构建的文档上下文
+     */
+    public DocumentationContext build(String groupName) {
+        DocumentationPlugin plugin = getDocumentationPluginsManager().documentationPlugins().stream()
+                .filter(each -> groupName.equals(each.getGroupName()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("未知的分组: " + groupName));
+        return buildContext(plugin);
+    }
+}
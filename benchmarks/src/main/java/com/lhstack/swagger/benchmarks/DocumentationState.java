@@ -0,0 +1,108 @@
+package com.lhstack.swagger.benchmarks;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+import springfox.documentation.oas.mappers.SchemaMapper;
+import springfox.documentation.oas.mappers.ServiceModelToOpenApiMapper;
+import springfox.documentation.schema.ModelSpecification;
+import springfox.documentation.service.ApiListing;
+import springfox.documentation.service.Documentation;
+import springfox.documentation.spring.web.json.JsonSerializer;
+import springfox.documentation.spring.web.scanners.ApiDocumentationScanner;
+import springfox.documentation.spring.web.scanners.CachingOperationReader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * 每组参数启动一次应用并扫描一次，供各个基准测试使用扫描、映射的结果和相关的 bean
+ */
+@State(Scope.Benchmark)
+public class DocumentationState {
+
+    @Param({"100", "1000", "5000"})
+    public int endpoints;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private DocumentationContexts contexts;
+    private ApiDocumentationScanner scanner;
+    private CachingOperationReader operations;
+    private ServiceModelToOpenApiMapper mapper;
+    private SchemaMapper schemaMapper;
+    private JsonSerializer jsonSerializer;
+    private Documentation documentation;
+    private OpenAPI openApi;
+    private List<ModelSpecification> modelSpecifications;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("swagger-benchmarks");
+        context = BenchmarkApplication.start(SyntheticControllers.generate(endpoints, directory));
+        contexts = new DocumentationContexts(context);
+        scanner = context.getBean(ApiDocumentationScanner.class);
+        operations = context.getBean(CachingOperationReader.class);
+        mapper = context.getBean(ServiceModelToOpenApiMapper.class);
+        schemaMapper = context.getBean(SchemaMapper.class);
+        jsonSerializer = context.getBean(JsonSerializer.class);
+        documentation = scan();
+        openApi = mapper.mapDocumentation(documentation);
+        modelSpecifications = documentation.getApiListings().values().stream()
+                .flatMap(Collection::stream)
+                .map(ApiListing::getModelSpecifications)
+                .map(Map::values)
+                .flatMap(Collection::stream)
+                .collect(toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    public Documentation scan() {
+        return scanner.scan(contexts.build(BenchmarkApplication.GROUP));
+    }
+
+    public CachingOperationReader getOperations() {
+        return operations;
+    }
+
+    public ServiceModelToOpenApiMapper getMapper() {
+        return mapper;
+    }
+
+    public SchemaMapper getSchemaMapper() {
+        return schemaMapper;
+    }
+
+    public JsonSerializer getJsonSerializer() {
+        return jsonSerializer;
+    }
+
+    public Documentation getDocumentation() {
+        return documentation;
+    }
+
+    public OpenAPI getOpenApi() {
+        return openApi;
+    }
+
+    public List<ModelSpecification> getModelSpecifications() {
+        return modelSpecifications;
+    }
+}
@@ -0,0 +1,44 @@
+package com.lhstack.swagger.benchmarks;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import springfox.documentation.spi.service.contexts.ModelSpecificationRegistry;
+import springfox.documentation.spring.web.scanners.ModelSpecificationRegistryBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 扫描结果到 open api 规范的映射：整体映射、模型映射，以及扫描过程中模型注册表的构建
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Benchmark
+    public OpenAPI mapDocumentation(DocumentationState state) {
+        return state.getMapper().mapDocumentation(state.getDocumentation());
+    }
+
+    @Benchmark
+    public Map<String, Schema> modelsFromApiListings(DocumentationState state) {
+        return state.getSchemaMapper().modelsFromApiListings(state.getDocumentation().getApiListings());
+    }
+
+    @Benchmark
+    public ModelSpecificationRegistry buildModelRegistry(DocumentationState state) {
+        ModelSpecificationRegistryBuilder builder = new ModelSpecificationRegistryBuilder();
+        builder.addAll(state.getModelSpecifications());
+        return builder.build();
+    }
+}
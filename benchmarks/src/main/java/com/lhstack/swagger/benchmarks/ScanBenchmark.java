@@ -0,0 +1,45 @@
+package com.lhstack.swagger.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import springfox.documentation.service.Documentation;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ApiDocumentationScanner.scan}：冷扫描对应启动时的开销，热扫描对应接口缓存命中后的刷新
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ScanBenchmark {
+
+    @State(Scope.Thread)
+    public static class ColdOperations {
+        @Setup(Level.Invocation)
+        public void clear(DocumentationState state) {
+            state.getOperations().clear();
+        }
+    }
+
+    @Benchmark
+    public Documentation scan(DocumentationState state, ColdOperations cold) {
+        return state.scan();
+    }
+
+    @Benchmark
+    public Documentation rescan(DocumentationState state) {
+        return state.scan();
+    }
+}
@@ -0,0 +1,33 @@
+package com.lhstack.swagger.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import springfox.documentation.spring.web.json.Json;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code JsonSerializer} 序列化映射好的 open api 规范
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Benchmark
+    public Json toJson(DocumentationState state) {
+        return state.getJsonSerializer().toJson(state.getOpenApi());
+    }
+
+    @Benchmark
+    public byte[] toJsonBytes(DocumentationState state) {
+        return state.getJsonSerializer().toJsonBytes(state.getOpenApi());
+    }
+}
@@ -0,0 +1,181 @@
+package com.lhstack.swagger.benchmarks;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 生成并编译指定数量接口的控制器，每个控制器 {@link #ENDPOINTS_PER_CONTROLLER} 个接口，
+ * 覆盖多层泛型的请求体与返回值、{@code @ModelAttribute} 展开、路径/请求头/集合参数，以及每个控制器独有的模型
+ */
+public final class SyntheticControllers {
+
+    public static final String PACKAGE = "com.lhstack.swagger.benchmarks.generated";
+    public static final int ENDPOINTS_PER_CONTROLLER = 10;
+
+    private final List<String> classNames;
+    private final ClassLoader classLoader;
+
+    private SyntheticControllers(List<String> classNames, ClassLoader classLoader) {
+        this.classNames = classNames;
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * @param endpoints 接口数量，按每个控制器 {@link #ENDPOINTS_PER_CONTROLLER} 个向上取整
+     * @param directory 源码与字节码的输出目录
+     * @return 加载了生成的控制器的类加载器
+     */
+    public static SyntheticControllers generate(int endpoints, Path directory) {
+        int controllers = (endpoints + ENDPOINTS_PER_CONTROLLER - 1) / ENDPOINTS_PER_CONTROLLER;
+        Path packageDirectory = directory.resolve(PACKAGE.replace('.', '/'));
+        List<String> classNames = new ArrayList<>();
+        List<String> sources = new ArrayList<>();
+        try {
+            Files.createDirectories(packageDirectory);
+            for (int i = 0; i < controllers; i++) {
+                sources.add(write(packageDirectory, "Payload" + i, payload(i)));
+                sources.add(write(packageDirectory, "Controller" + i, controller(i)));
+                classNames.add(PACKAGE + ".Controller" + i);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        compile(directory, sources);
+        try {
+            URLClassLoader classLoader = new URLClassLoader(
+                    new URL[]{directory.toUri().toURL()},
+                    SyntheticControllers.class.getClassLoader());
+            return new SyntheticControllers(classNames, classLoader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public List<String> getClassNames() {
+        return classNames;
+    }
+
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    private static String write(Path directory, String simpleName, String source) throws IOException {
+        Path file = directory.resolve(simpleName + ".java");
+        Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+        return file.toString();
+    }
+
+    private static void compile(Path directory, List<String> sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("生成的控制器需要在 JDK 上编译");
+        }
+        List<String> arguments = new ArrayList<>();
+        arguments.add("-nowarn");
+        arguments.add("-parameters");
+        arguments.add("-encoding");
+        arguments.add("UTF-8");
+        arguments.add("-classpath");
+        arguments.add(System.getProperty("java.class.path"));
+        arguments.add("-d");
+        arguments.add(directory.toString());
+        arguments.addAll(sources);
+        if (compiler.run(null, null, null, arguments.toArray(new String[0])) != 0) {
+            throw new IllegalStateException("生成的控制器编译失败: " + directory);
+        }
+    }
+
+    private static String payload(int index) {
+        return "package " + PACKAGE + ";\n"
+                + "\n"
+                + "import com.lhstack.swagger.benchmarks.model.Models.*;\n"
+                + "import java.util.*;\n"
+                + "\n"
+                + "public class Payload" + index + " {\n"
+                + "    public String name;\n"
+                + "    public int revision;\n"
+                + "    public Envelope<Page<Order>> orders;\n"
+                + "    public Map<String, Range<Integer>> limits;\n"
+                + "    public List<Payload" + index + "> related;\n"
+                + "}\n";
+    }
+
+    private static String controller(int index) {
+        String tag = "resource-" + index;
+        String path = "/api/r" + index;
+        String payload = "Payload" + index;
+        return "package " + PACKAGE + ";\n"
+                + "\n"
+                + "import com.lhstack.swagger.benchmarks.model.Models.*;\n"
+                + "import io.swagger.annotations.*;\n"
+                + "import org.springframework.web.bind.annotation.*;\n"
+                + "import java.util.*;\n"
+                + "\n"
+                + "@Api(tags = \"" + tag + "\")\n"
+                + "@RestController\n"
+                + "@RequestMapping(\"" + path + "\")\n"
+                + "public class Controller" + index + " {\n"
+                + "    @ApiOperation(\"分页查询\")\n"
+                + "    @GetMapping\n"
+                + "    public Envelope<Page<OrderView>> list(@ModelAttribute SearchCriteria criteria,\n"
+                + "            @RequestParam(defaultValue = \"0\") int page, @RequestParam(defaultValue = \"20\") int size) {\n"
+                + "        return null;\n"
+                + "    }\n"
+                + "\n"
+                + "    @GetMapping(\"/{id}\")\n"
+                + "    public Envelope<Order> get(@ApiParam(\"主键\") @PathVariable Long id) {\n"
+                + "        return null;\n"
+                + "    }\n"
+                + "\n"
+                + "    @PostMapping\n"
+                + "    public Envelope<Order> create(@RequestBody Order order) {\n"
+                + "        return null;\n"
+                + "    }\n"
+                + "\n"
+                + "    @PutMapping(\"/{id}\")\n"
+                + "    public Envelope<Map<String, Product>> replace(@PathVariable Long id,\n"
+                + "            @RequestBody Map<String, List<LineItem>> items) {\n"
+                + "        return null;\n"
+                + "    }\n"
+                + "\n"
+                + "    @DeleteMapping(\"/{id}\")\n"
+                + "    public void delete(@PathVariable Long id, @RequestHeader(\"X-Request-Id\") String requestId) {\n"
+                + "    }\n"
+                + "\n"
+                + "    @GetMapping(\"/{id}/tree\")\n"
+                + "    public Envelope<Category> tree(@PathVariable Long id, @RequestParam(required = false) Integer depth) {\n"
+                + "        return null;\n"
+                + "    }\n"
+                + "\n"
+                + "    @PostMapping(\"/batch\")\n"
+                + "    public Envelope<List<Page<Product>>> batch(@RequestBody List<Envelope<Order>> orders) {\n"
+                + "        return null;\n"
+                + "    }\n"
+                + "\n"
+                + "    @GetMapping(\"/search\")\n"
+                + "    public Page<Customer> search(@ModelAttribute SearchCriteria criteria, @RequestParam List<String> fields) {\n"
+                + "        return null;\n"
+                + "    }\n"
+                + "\n"
+                + "    @PostMapping(\"/payload\")\n"
+                + "    public Envelope<" + payload + "> payload(@RequestBody " + payload + " payload) {\n"
+                + "        return null;\n"
+                + "    }\n"
+                + "\n"
+                + "    @PatchMapping(\"/{id}/items\")\n"
+                + "    public Envelope<Page<Envelope<LineItem>>> items(@PathVariable Long id, @RequestParam Set<String> skus,\n"
+                + "            @RequestParam(required = false) Status status) {\n"
+                + "        return null;\n"
+                + "    }\n"
+                + "}\n";
+    }
+}
@@ -0,0 +1,166 @@
+package com.lhstack.swagger.benchmarks.model;
+
+import io.swagger.annotations.ApiModelProperty;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 生成的控制器共用的模型：多层泛型包装、自引用的树、集合与字典，以及用于 {@code @ModelAttribute} 展开的嵌套查询条件
+ */
+public final class Models {
+
+    private Models() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static class Envelope<T> {
+        @ApiModelProperty("业务状态码")
+        public int code;
+        public String message;
+        public T data;
+        public Map<String, List<String>> errors;
+    }
+
+    public static class Page<T> {
+        public List<T> content;
+        public long total;
+        public int page;
+        public int size;
+        public List<Sort> sort;
+    }
+
+    public static class Sort {
+        public String property;
+        public Direction direction;
+    }
+
+    public enum Direction {
+        ASC, DESC
+    }
+
+    public static class Range<T extends Comparable<T>> {
+        public T from;
+        public T to;
+    }
+
+    public static class Order {
+        public Long id;
+        @ApiModelProperty(value = "订单号", required = true, example = "SO-0001")
+        public String number;
+        public Status status;
+        public Customer customer;
+        public List<LineItem> items;
+        public Map<String, Address> addresses;
+        public OffsetDateTime createdAt;
+        public BigDecimal total;
+    }
+
+    public static class OrderView {
+        public Long id;
+        public String number;
+        public Status status;
+        public String customerName;
+        public BigDecimal total;
+    }
+
+    public enum Status {
+        DRAFT, PLACED, PAID, SHIPPED, CANCELLED
+    }
+
+    public static class LineItem {
+        public Product product;
+        public int quantity;
+        public BigDecimal price;
+        public List<Envelope<Product>> alternatives;
+    }
+
+    public static class Product {
+        public String sku;
+        public String name;
+        public Category category;
+        public Set<String> tags;
+        public Map<String, Object> attributes;
+    }
+
+    public static class Category {
+        public String code;
+        public String name;
+        public Category parent;
+        public List<Category> children;
+    }
+
+    public static class Customer {
+        public Long id;
+        public String name;
+        public String email;
+        public LocalDate birthday;
+        public Address billing;
+        public List<Address> shipping;
+    }
+
+    public static class Address {
+        public String country;
+        public String city;
+        public String street;
+        public String zip;
+        public Geo geo;
+    }
+
+    public static class Geo {
+        public double latitude;
+        public double longitude;
+    }
+
+    public static class SearchCriteria {
+        private String keyword;
+        private Status status;
+        private Range<BigDecimal> total;
+        private Address near;
+        private List<String> tags;
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        public void setKeyword(String keyword) {
+            this.keyword = keyword;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public void setStatus(Status status) {
+            this.status = status;
+        }
+
+        public Range<BigDecimal> getTotal() {
+            return total;
+        }
+
+        public void setTotal(Range<BigDecimal> total) {
+            this.total = total;
+        }
+
+        public Address getNear() {
+            return near;
+        }
+
+        public void setNear(Address near) {
+            this.near = near;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+    }
+}
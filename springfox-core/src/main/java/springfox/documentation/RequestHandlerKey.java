@@ -25,12 +25,16 @@ import org.springframework.web.bind.annotation.RequestMethod;
 import java.util.Objects;
 import java.util.Set;
 
+/**
+ * Identifies a request handler by its mapping. The hash code is computed once, the sets must not change afterwards.
+ */
 public class RequestHandlerKey {
 
   private final Set<String> pathMappings;
   private final Set<RequestMethod> supportedMethods;
   private final Set<MediaType> supportedMediaTypes;
   private final Set<MediaType> producibleMediaTypes;
+  private final int hash;
 
   public RequestHandlerKey(
       Set<String> pathMappings,
@@ -42,6 +46,7 @@ public class RequestHandlerKey {
     this.supportedMethods = supportedMethods;
     this.supportedMediaTypes = supportedMediaTypes;
     this.producibleMediaTypes = producibleMediaTypes;
+    this.hash = Objects.hash(pathMappings, supportedMethods, supportedMediaTypes, producibleMediaTypes);
   }
 
   public Set<String> getPathMappings() {
@@ -69,7 +74,8 @@ public class RequestHandlerKey {
       return false;
     }
     RequestHandlerKey that = (RequestHandlerKey) o;
-    return Objects.equals(pathMappings, that.pathMappings) &&
+    return hash == that.hash &&
+        Objects.equals(pathMappings, that.pathMappings) &&
         Objects.equals(supportedMethods, that.supportedMethods) &&
         Objects.equals(supportedMediaTypes, that.supportedMediaTypes) &&
         Objects.equals(producibleMediaTypes, that.producibleMediaTypes);
@@ -77,7 +83,7 @@ public class RequestHandlerKey {
 
   @Override
   public int hashCode() {
-    return Objects.hash(pathMappings, supportedMethods, supportedMediaTypes, producibleMediaTypes);
+    return hash;
   }
 
   @Override
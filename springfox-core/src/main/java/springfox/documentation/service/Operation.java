@@ -143,6 +143,36 @@ public class Operation implements Ordered {
     return uniqueId;
   }
 
+  /**
+   * @param uniqueId the unique id of the copy
+   * @return a copy of this operation with another unique id
+   */
+  public Operation withUniqueId(String uniqueId) {
+    return new Operation(
+        method,
+        summary,
+        notes,
+        externalDocumentation,
+        responseModel,
+        uniqueId,
+        position,
+        tags,
+        produces,
+        consumes,
+        protocol,
+        securityReferences.entrySet().stream()
+            .map(each -> new SecurityReference(each.getKey(), each.getValue().toArray(new AuthorizationScope[0])))
+            .collect(toList()),
+        parameters,
+        responseMessages,
+        deprecated,
+        isHidden,
+        vendorExtensions,
+        requestParameters,
+        body,
+        responses);
+  }
+
   public int getPosition() {
     return position;
   }
@@ -21,8 +21,12 @@ package springfox.documentation.oas.configuration;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -85,7 +89,16 @@ public class OpenApiJacksonModule extends SimpleModule implements JacksonModuleR
     context.setMixInAnnotations(Tag.class, NonEmptyMixin.class);
     context.setMixInAnnotations(Contact.class, NonEmptyMixin.class);
     context.setMixInAnnotations(Example.class, NonEmptyMixin.class);
-
+    context.addSerializers(new OpenApiSerializers());
+    context.addBeanDeserializerModifier(new BeanDeserializerModifier() {
+      @Override
+      public JsonDeserializer<?> modifyDeserializer(
+          DeserializationConfig config,
+          BeanDescription description,
+          JsonDeserializer<?> deserializer) {
+        return description.getBeanClass() == Schema.class ? new SchemaDeserializer(deserializer) : deserializer;
+      }
+    });
   }
 
   @JsonAutoDetect
@@ -1,8 +1,35 @@
 package springfox.documentation.oas.configuration;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.MediaType;
+import springfox.documentation.oas.mappers.ServiceModelToOpenApiMapper;
+import springfox.documentation.oas.web.GzipSpecificationEncoder;
+import springfox.documentation.oas.web.JacksonSpecificationFormat;
+import springfox.documentation.oas.web.OpenApiDocumentationSnapshots;
+import springfox.documentation.oas.web.RenderedSpecificationCache;
+import springfox.documentation.oas.web.SpecificationEncoder;
+import springfox.documentation.oas.web.SpecificationEncoders;
+import springfox.documentation.oas.web.SpecificationFormat;
+import springfox.documentation.oas.web.SpecificationFormats;
 import springfox.documentation.spring.web.json.JacksonModuleRegistrar;
+import springfox.documentation.spring.web.json.JsonSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static springfox.documentation.oas.web.SpecGeneration.OPEN_API_CACHE_MAX_VARIANTS;
+import static springfox.documentation.oas.web.SpecGeneration.OPEN_API_COMPRESSION_ENABLED;
+import static springfox.documentation.oas.web.SpecGeneration.OPEN_API_SNAPSHOT_DUMP_DIRECTORY;
+import static springfox.documentation.oas.web.SpecGeneration.OPEN_API_SNAPSHOT_LOCATION;
 
 /**
  * @author lhstack
@@ -13,4 +40,99 @@ public class OpenApiMappingConfiguration {
   public JacksonModuleRegistrar openApiModule() {
     return new OpenApiJacksonModule();
   }
+
+  @Bean
+  public RenderedSpecificationCache renderedSpecificationCache(
+      @Value(OPEN_API_CACHE_MAX_VARIANTS) int maxVariantsPerGroup) {
+    return new RenderedSpecificationCache(maxVariantsPerGroup);
+  }
+
+  @Bean
+  public OpenApiDocumentationSnapshots openApiDocumentationSnapshots(
+      ResourceLoader resourceLoader,
+      @Value(OPEN_API_SNAPSHOT_LOCATION) String location,
+      @Value(OPEN_API_SNAPSHOT_DUMP_DIRECTORY) String dumpDirectory,
+      ServiceModelToOpenApiMapper mapper,
+      JsonSerializer jsonSerializer) {
+    return new OpenApiDocumentationSnapshots(resourceLoader, location, dumpDirectory, mapper, jsonSerializer);
+  }
+
+  @Bean
+  public SpecificationEncoder gzipSpecificationEncoder() {
+    return new GzipSpecificationEncoder();
+  }
+
+  @Bean
+  public SpecificationEncoders specificationEncoders(
+      List<SpecificationEncoder> encoders,
+      @Value(OPEN_API_COMPRESSION_ENABLED) boolean compressionEnabled) {
+    return new SpecificationEncoders(compressionEnabled ? encoders : new ArrayList<>());
+  }
+
+  /**
+   * Indented JSON, only served with {@code format=pretty} as any JSON media type gets the compact one.
+   */
+  @Bean
+  public SpecificationFormat prettyJsonSpecificationFormat(JsonSerializer jsonSerializer) {
+    return new JacksonSpecificationFormat(
+        "pretty",
+        jsonSerializer,
+        new JsonFactory(),
+        true,
+        MediaType.APPLICATION_JSON);
+  }
+
+  @Bean
+  public SpecificationFormats specificationFormats(List<SpecificationFormat> formats) {
+    return new SpecificationFormats(formats);
+  }
+
+  @Configuration
+  @ConditionalOnClass(name = "com.fasterxml.jackson.dataformat.yaml.YAMLFactory")
+  static class YamlSpecificationFormatConfiguration {
+    @Bean
+    public SpecificationFormat yamlSpecificationFormat(JsonSerializer jsonSerializer) {
+      YAMLFactory factory = new YAMLFactory()
+          .disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER)
+          .enable(YAMLGenerator.Feature.MINIMIZE_QUOTES)
+          .enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
+      return new JacksonSpecificationFormat(
+          "yaml",
+          jsonSerializer,
+          factory,
+          false,
+          MediaType.valueOf("application/yaml"),
+          MediaType.valueOf("application/x-yaml"),
+          MediaType.valueOf("text/yaml"),
+          MediaType.valueOf("application/vnd.oai.openapi"));
+    }
+  }
+
+  @Configuration
+  @ConditionalOnClass(name = "com.fasterxml.jackson.dataformat.smile.SmileFactory")
+  static class SmileSpecificationFormatConfiguration {
+    @Bean
+    public SpecificationFormat smileSpecificationFormat(JsonSerializer jsonSerializer) {
+      return new JacksonSpecificationFormat(
+          "smile",
+          jsonSerializer,
+          new SmileFactory(),
+          false,
+          MediaType.valueOf("application/x-jackson-smile"));
+    }
+  }
+
+  @Configuration
+  @ConditionalOnClass(name = "com.fasterxml.jackson.dataformat.cbor.CBORFactory")
+  static class CborSpecificationFormatConfiguration {
+    @Bean
+    public SpecificationFormat cborSpecificationFormat(JsonSerializer jsonSerializer) {
+      return new JacksonSpecificationFormat(
+          "cbor",
+          jsonSerializer,
+          new CBORFactory(),
+          false,
+          MediaType.valueOf("application/cbor"));
+    }
+  }
 }
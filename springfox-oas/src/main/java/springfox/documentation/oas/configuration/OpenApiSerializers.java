@@ -0,0 +1,376 @@
+/*
+ *
+ *  Copyright 2015-2019 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.oas.configuration;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.BinarySchema;
+import io.swagger.v3.oas.models.media.BooleanSchema;
+import io.swagger.v3.oas.models.media.ByteArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.DateSchema;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.EmailSchema;
+import io.swagger.v3.oas.models.media.FileSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.NumberSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.PasswordSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.media.UUIDSchema;
+import io.swagger.v3.oas.models.parameters.CookieParameter;
+import io.swagger.v3.oas.models.parameters.HeaderParameter;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes the model classes that make up most of a specification with direct getter calls, instead of bean property
+ * writers. The properties are written in the order bean introspection puts them in, and left out when null or empty,
+ * as the {@code NON_EMPTY} mix-in of {@link OpenApiJacksonModule} does, so the output is the same.
+ * <p>
+ * Only the exact model classes are handled; a subclass with properties of its own falls back to bean serialization.
+ * Property values other than strings, numbers and booleans are written by the serializer the provider finds for
+ * them, which is one of these for nested models.
+ */
+class OpenApiSerializers extends Serializers.Base {
+  private final Map<Class<?>, JsonSerializer<?>> serializers = new HashMap<>();
+
+  OpenApiSerializers() {
+    SchemaSerializer schemaSerializer = new SchemaSerializer();
+    for (Class<?> each : new Class<?>[] {
+        Schema.class,
+        BinarySchema.class,
+        BooleanSchema.class,
+        ByteArraySchema.class,
+        DateSchema.class,
+        DateTimeSchema.class,
+        EmailSchema.class,
+        FileSchema.class,
+        IntegerSchema.class,
+        MapSchema.class,
+        NumberSchema.class,
+        ObjectSchema.class,
+        PasswordSchema.class,
+        StringSchema.class,
+        UUIDSchema.class}) {
+      serializers.put(each, schemaSerializer);
+    }
+    serializers.put(ArraySchema.class, new ArraySchemaSerializer());
+    serializers.put(ComposedSchema.class, new ComposedSchemaSerializer());
+    ParameterSerializer parameterSerializer = new ParameterSerializer();
+    for (Class<?> each : new Class<?>[] {
+        Parameter.class,
+        CookieParameter.class,
+        HeaderParameter.class,
+        PathParameter.class,
+        QueryParameter.class}) {
+      serializers.put(each, parameterSerializer);
+    }
+    serializers.put(Operation.class, new OperationSerializer());
+    serializers.put(PathItem.class, new PathItemSerializer());
+    serializers.put(ApiResponse.class, new ApiResponseSerializer());
+    serializers.put(MediaType.class, new MediaTypeSerializer());
+    serializers.put(Components.class, new ComponentsSerializer());
+  }
+
+  @Override
+  public JsonSerializer<?> findSerializer(
+      SerializationConfig config,
+      JavaType type,
+      BeanDescription beanDesc) {
+    return serializers.get(type.getRawClass());
+  }
+
+  private abstract static class ModelSerializer<T> extends StdSerializer<T> {
+    ModelSerializer(Class<T> type) {
+      super(type);
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+      generator.writeStartObject(value);
+      writeProperties(value, generator, provider);
+      generator.writeEndObject();
+    }
+
+    abstract void writeProperties(T value, JsonGenerator generator, SerializerProvider provider) throws IOException;
+
+    static void writeString(JsonGenerator generator, String name, String value) throws IOException {
+      if (value != null && !value.isEmpty()) {
+        generator.writeStringField(name, value);
+      }
+    }
+
+    static void writeBoolean(JsonGenerator generator, String name, Boolean value) throws IOException {
+      if (value != null) {
+        generator.writeBooleanField(name, value);
+      }
+    }
+
+    static void writeNumber(JsonGenerator generator, String name, Integer value) throws IOException {
+      if (value != null) {
+        generator.writeFieldName(name);
+        generator.writeNumber(value);
+      }
+    }
+
+    static void writeNumber(JsonGenerator generator, String name, BigDecimal value) throws IOException {
+      if (value != null) {
+        generator.writeFieldName(name);
+        generator.writeNumber(value);
+      }
+    }
+
+    static void writeValue(
+        JsonGenerator generator,
+        SerializerProvider provider,
+        String name,
+        Object value) throws IOException {
+      if (value == null) {
+        return;
+      }
+      JsonSerializer<Object> serializer = provider.findValueSerializer(value.getClass(), null);
+      if (!serializer.isEmpty(provider, value)) {
+        generator.writeFieldName(name);
+        serializer.serialize(value, generator, provider);
+      }
+    }
+  }
+
+  private static class SchemaSerializer extends ModelSerializer<Schema> {
+    SchemaSerializer() {
+      super(Schema.class);
+    }
+
+    @Override
+    void writeProperties(Schema value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+      writeString(generator, "title", value.getTitle());
+      writeNumber(generator, "multipleOf", value.getMultipleOf());
+      writeNumber(generator, "maximum", value.getMaximum());
+      writeBoolean(generator, "exclusiveMaximum", value.getExclusiveMaximum());
+      writeNumber(generator, "minimum", value.getMinimum());
+      writeBoolean(generator, "exclusiveMinimum", value.getExclusiveMinimum());
+      writeNumber(generator, "maxLength", value.getMaxLength());
+      writeNumber(generator, "minLength", value.getMinLength());
+      writeString(generator, "pattern", value.getPattern());
+      writeNumber(generator, "maxItems", value.getMaxItems());
+      writeNumber(generator, "minItems", value.getMinItems());
+      writeBoolean(generator, "uniqueItems", value.getUniqueItems());
+      writeNumber(generator, "maxProperties", value.getMaxProperties());
+      writeNumber(generator, "minProperties", value.getMinProperties());
+      writeValue(generator, provider, "required", value.getRequired());
+      writeString(generator, "type", value.getType());
+      writeValue(generator, provider, "not", value.getNot());
+      writeValue(generator, provider, "properties", value.getProperties());
+      writeValue(generator, provider, "additionalProperties", value.getAdditionalProperties());
+      writeString(generator, "description", value.getDescription());
+      writeString(generator, "format", value.getFormat());
+      writeString(generator, "$ref", value.get$ref());
+      writeBoolean(generator, "nullable", value.getNullable());
+      writeBoolean(generator, "readOnly", value.getReadOnly());
+      writeBoolean(generator, "writeOnly", value.getWriteOnly());
+      writeValue(generator, provider, "example", value.getExample());
+      writeValue(generator, provider, "externalDocs", value.getExternalDocs());
+      writeBoolean(generator, "deprecated", value.getDeprecated());
+      writeValue(generator, provider, "xml", value.getXml());
+      writeValue(generator, provider, "extensions", value.getExtensions());
+      writeValue(generator, provider, "discriminator", value.getDiscriminator());
+      writeSubtypeProperties(value, generator, provider);
+      writeValue(generator, provider, "default", value.getDefault());
+      writeValue(generator, provider, "enum", value.getEnum());
+    }
+
+    void writeSubtypeProperties(
+        Schema value,
+        JsonGenerator generator,
+        SerializerProvider provider) throws IOException {
+    }
+  }
+
+  private static class ArraySchemaSerializer extends SchemaSerializer {
+    @Override
+    void writeSubtypeProperties(
+        Schema value,
+        JsonGenerator generator,
+        SerializerProvider provider) throws IOException {
+      writeValue(generator, provider, "items", ((ArraySchema) value).getItems());
+    }
+  }
+
+  private static class ComposedSchemaSerializer extends SchemaSerializer {
+    @Override
+    void writeSubtypeProperties(
+        Schema value,
+        JsonGenerator generator,
+        SerializerProvider provider) throws IOException {
+      ComposedSchema composed = (ComposedSchema) value;
+      writeValue(generator, provider, "allOf", composed.getAllOf());
+      writeValue(generator, provider, "anyOf", composed.getAnyOf());
+      writeValue(generator, provider, "oneOf", composed.getOneOf());
+    }
+  }
+
+  private static class ParameterSerializer extends ModelSerializer<Parameter> {
+    ParameterSerializer() {
+      super(Parameter.class);
+    }
+
+    @Override
+    void writeProperties(Parameter value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+      writeString(generator, "name", value.getName());
+      writeString(generator, "in", value.getIn());
+      writeString(generator, "description", value.getDescription());
+      writeBoolean(generator, "required", value.getRequired());
+      writeBoolean(generator, "deprecated", value.getDeprecated());
+      writeBoolean(generator, "allowEmptyValue", value.getAllowEmptyValue());
+      writeString(generator, "$ref", value.get$ref());
+      writeValue(generator, provider, "style", value.getStyle());
+      writeBoolean(generator, "explode", value.getExplode());
+      writeBoolean(generator, "allowReserved", value.getAllowReserved());
+      writeValue(generator, provider, "schema", value.getSchema());
+      writeValue(generator, provider, "examples", value.getExamples());
+      writeValue(generator, provider, "example", value.getExample());
+      writeValue(generator, provider, "content", value.getContent());
+      writeValue(generator, provider, "extensions", value.getExtensions());
+      writeString(generator, "default", value.getDefault());
+    }
+  }
+
+  private static class OperationSerializer extends ModelSerializer<Operation> {
+    OperationSerializer() {
+      super(Operation.class);
+    }
+
+    @Override
+    void writeProperties(Operation value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+      writeValue(generator, provider, "tags", value.getTags());
+      writeString(generator, "summary", value.getSummary());
+      writeString(generator, "description", value.getDescription());
+      writeValue(generator, provider, "externalDocs", value.getExternalDocs());
+      writeString(generator, "operationId", value.getOperationId());
+      writeValue(generator, provider, "parameters", value.getParameters());
+      writeValue(generator, provider, "requestBody", value.getRequestBody());
+      writeValue(generator, provider, "responses", value.getResponses());
+      writeValue(generator, provider, "callbacks", value.getCallbacks());
+      writeBoolean(generator, "deprecated", value.getDeprecated());
+      writeValue(generator, provider, "security", value.getSecurity());
+      writeValue(generator, provider, "servers", value.getServers());
+      writeValue(generator, provider, "extensions", value.getExtensions());
+    }
+  }
+
+  private static class PathItemSerializer extends ModelSerializer<PathItem> {
+    PathItemSerializer() {
+      super(PathItem.class);
+    }
+
+    @Override
+    void writeProperties(PathItem value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+      writeString(generator, "summary", value.getSummary());
+      writeString(generator, "description", value.getDescription());
+      writeValue(generator, provider, "get", value.getGet());
+      writeValue(generator, provider, "put", value.getPut());
+      writeValue(generator, provider, "post", value.getPost());
+      writeValue(generator, provider, "delete", value.getDelete());
+      writeValue(generator, provider, "options", value.getOptions());
+      writeValue(generator, provider, "head", value.getHead());
+      writeValue(generator, provider, "patch", value.getPatch());
+      writeValue(generator, provider, "trace", value.getTrace());
+      writeValue(generator, provider, "servers", value.getServers());
+      writeValue(generator, provider, "parameters", value.getParameters());
+      writeString(generator, "$ref", value.get$ref());
+      writeValue(generator, provider, "extensions", value.getExtensions());
+    }
+  }
+
+  private static class ApiResponseSerializer extends ModelSerializer<ApiResponse> {
+    ApiResponseSerializer() {
+      super(ApiResponse.class);
+    }
+
+    @Override
+    void writeProperties(
+        ApiResponse value,
+        JsonGenerator generator,
+        SerializerProvider provider) throws IOException {
+      writeString(generator, "description", value.getDescription());
+      writeValue(generator, provider, "headers", value.getHeaders());
+      writeValue(generator, provider, "content", value.getContent());
+      writeValue(generator, provider, "links", value.getLinks());
+      writeValue(generator, provider, "extensions", value.getExtensions());
+      writeString(generator, "$ref", value.get$ref());
+    }
+  }
+
+  private static class MediaTypeSerializer extends ModelSerializer<MediaType> {
+    MediaTypeSerializer() {
+      super(MediaType.class);
+    }
+
+    @Override
+    void writeProperties(MediaType value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+      writeValue(generator, provider, "schema", value.getSchema());
+      writeValue(generator, provider, "examples", value.getExamples());
+      writeValue(generator, provider, "example", value.getExample());
+      writeValue(generator, provider, "encoding", value.getEncoding());
+      writeValue(generator, provider, "extensions", value.getExtensions());
+    }
+  }
+
+  private static class ComponentsSerializer extends ModelSerializer<Components> {
+    ComponentsSerializer() {
+      super(Components.class);
+    }
+
+    @Override
+    void writeProperties(Components value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+      writeValue(generator, provider, "schemas", value.getSchemas());
+      writeValue(generator, provider, "responses", value.getResponses());
+      writeValue(generator, provider, "parameters", value.getParameters());
+      writeValue(generator, provider, "examples", value.getExamples());
+      writeValue(generator, provider, "requestBodies", value.getRequestBodies());
+      writeValue(generator, provider, "headers", value.getHeaders());
+      writeValue(generator, provider, "securitySchemes", value.getSecuritySchemes());
+      writeValue(generator, provider, "links", value.getLinks());
+      writeValue(generator, provider, "callbacks", value.getCallbacks());
+      writeValue(generator, provider, "extensions", value.getExtensions());
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ *
+ *  Copyright 2015-2019 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.oas.configuration;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.io.IOException;
+
+/**
+ * Reads schemas back into the subtype they were written from; the items of an array and the members of a
+ * composed schema are only known to the subtypes, and additional properties must be a boolean or a schema.
+ */
+class SchemaDeserializer extends JsonDeserializer<Schema> implements ResolvableDeserializer {
+  private final JsonDeserializer<Object> defaultDeserializer;
+
+  @SuppressWarnings("unchecked")
+  SchemaDeserializer(JsonDeserializer<?> defaultDeserializer) {
+    this.defaultDeserializer = (JsonDeserializer<Object>) defaultDeserializer;
+  }
+
+  @Override
+  public void resolve(DeserializationContext context) throws JsonMappingException {
+    if (defaultDeserializer instanceof ResolvableDeserializer) {
+      ((ResolvableDeserializer) defaultDeserializer).resolve(context);
+    }
+  }
+
+  @Override
+  public Schema deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+    ObjectNode node = parser.readValueAsTree();
+    JsonNode additionalProperties = node.remove("additionalProperties");
+    Schema schema;
+    if (node.has("items")) {
+      schema = context.readValue(traverse(node, parser), ArraySchema.class);
+    } else if (node.has("allOf") || node.has("anyOf") || node.has("oneOf")) {
+      schema = context.readValue(traverse(node, parser), ComposedSchema.class);
+    } else {
+      schema = (Schema) defaultDeserializer.deserialize(traverse(node, parser), context);
+    }
+    if (additionalProperties != null) {
+      schema.setAdditionalProperties(additionalProperties.isBoolean()
+                                     ? additionalProperties.booleanValue()
+                                     : deserialize(traverse(additionalProperties, parser), context));
+    }
+    return schema;
+  }
+
+  private static JsonParser traverse(JsonNode node, JsonParser parser) throws IOException {
+    JsonParser nodeParser = node.traverse(parser.getCodec());
+    nodeParser.nextToken();
+    return nodeParser;
+  }
+}
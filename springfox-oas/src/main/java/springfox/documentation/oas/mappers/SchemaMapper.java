@@ -24,13 +24,34 @@ import static springfox.documentation.builders.BuilderDefaults.emptyToNull;
 @SuppressWarnings("rawtypes")
 @Mapper(componentModel = "spring")
 public abstract class SchemaMapper {
+  /**
+   * Maps the models of all the listings into one map of schemas by name. Listings of the same group share their model
+   * specifications and names registry, so each model is only mapped the first time it is seen, and a name is only
+   * mapped again when a later listing holds a different model for it, which then wins as before.
+   */
   @Named("ModelsMapping")
   public Map<String, Schema> modelsFromApiListings(Map<String, List<ApiListing>> apiListings) {
     Map<String, Schema> modelMap = new TreeMap<>();
+    Map<String, MappedModel> mappedByName = new HashMap<>();
+    Map<ModelNamesRegistry, ModelSpecificationInheritanceDeterminer> determiners = new IdentityHashMap<>();
     apiListings.values()
         .forEach(listings -> listings
-            .forEach(each -> modelMap.putAll(
-                mapModels(each.getModelSpecifications(), each.getModelNamesRegistry()))));
+            .forEach(each -> {
+              if (each.getModelSpecifications() == null) {
+                return;
+              }
+              ModelNamesRegistry namesRegistry = each.getModelNamesRegistry();
+              ModelSpecificationInheritanceDeterminer determiner = determiners.computeIfAbsent(
+                  namesRegistry,
+                  ModelSpecificationInheritanceDeterminer::new);
+              each.getModelSpecifications().forEach((name, specification) -> {
+                MappedModel mapped = mappedByName.get(name);
+                if (mapped == null || !mapped.isMappedFrom(specification, namesRegistry)) {
+                  mappedByName.put(name, new MappedModel(specification, namesRegistry));
+                  modelMap.put(name, mapModel(specification, namesRegistry, determiner));
+                }
+              });
+            }));
     return modelMap;
   }
 
@@ -42,10 +63,11 @@ public abstract class SchemaMapper {
     }
 
     Map<String, Schema> map = new HashMap<>(Math.max((int) (specifications.size() / .75f) + 1, 16));
-
+    ModelSpecificationInheritanceDeterminer determiner
+        = new ModelSpecificationInheritanceDeterminer(modelNamesRegistry);
     for (Map.Entry<String, ModelSpecification> entry : specifications.entrySet()) {
       String key = entry.getKey();
-      Schema value = mapModel(entry.getValue(), modelNamesRegistry);
+      Schema value = mapModel(entry.getValue(), modelNamesRegistry, determiner);
       map.put(key, value);
     }
 
@@ -59,13 +81,22 @@ public abstract class SchemaMapper {
     if (source == null) {
       return null;
     }
-    ModelSpecificationInheritanceDeterminer determiner = new ModelSpecificationInheritanceDeterminer(namesRegistry);
+    return mapModel(source, namesRegistry, new ModelSpecificationInheritanceDeterminer(namesRegistry));
+  }
+
+  private Schema mapModel(
+      ModelSpecification source,
+      ModelNamesRegistry namesRegistry,
+      ModelSpecificationInheritanceDeterminer determiner) {
+    if (source == null) {
+      return null;
+    }
     return determiner.parent(source)
         .map(rm -> mapComposedModel(
             rm,
             source,
             namesRegistry))
-        .orElse(model(source, namesRegistry));
+        .orElseGet(() -> model(source, namesRegistry));
   }
 
   @SuppressWarnings({
@@ -424,4 +455,18 @@ public abstract class SchemaMapper {
     };
   }
 
+
+  private static final class MappedModel {
+    private final ModelSpecification specification;
+    private final ModelNamesRegistry namesRegistry;
+
+    MappedModel(ModelSpecification specification, ModelNamesRegistry namesRegistry) {
+      this.specification = specification;
+      this.namesRegistry = namesRegistry;
+    }
+
+    boolean isMappedFrom(ModelSpecification specification, ModelNamesRegistry namesRegistry) {
+      return this.specification == specification && this.namesRegistry == namesRegistry;
+    }
+  }
 }
@@ -0,0 +1,131 @@
+package springfox.documentation.oas.web;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
+/**
+ * An output stream emitting what is written to it as data buffers of a fixed size, each one once the connection asks
+ * for it, so that a document written to a reactive response is never held in memory as a whole.
+ */
+class DataBufferOutputStream extends OutputStream {
+  static final int DEFAULT_CHUNK_SIZE = 8192;
+
+  private final FluxSink<DataBuffer> sink;
+  private final DataBufferFactory bufferFactory;
+  private final int chunkSize;
+  private DataBuffer current;
+  private long demand;
+  private boolean cancelled;
+
+  private DataBufferOutputStream(FluxSink<DataBuffer> sink, DataBufferFactory bufferFactory, int chunkSize) {
+    this.sink = sink;
+    this.bufferFactory = bufferFactory;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * @param writer        writes the document, blocking while the connection does not ask for more
+   * @param bufferFactory allocates the buffers
+   * @param chunkSize     the size of the buffers
+   * @return the buffers the document is written to, written on a thread that may block when subscribed to
+   */
+  static Flux<DataBuffer> write(Consumer<OutputStream> writer, DataBufferFactory bufferFactory, int chunkSize) {
+    return Flux.<DataBuffer>create(sink -> {
+      DataBufferOutputStream out = new DataBufferOutputStream(sink, bufferFactory, chunkSize);
+      sink.onRequest(out::request);
+      sink.onDispose(out::cancel);
+      try {
+        writer.accept(out);
+        out.finish();
+        sink.complete();
+      } catch (RuntimeException | IOException e) {
+        out.release();
+        sink.error(e);
+      }
+    }).subscribeOn(Schedulers.boundedElastic(), false);
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    buffer().write((byte) b);
+    if (current.writePosition() == chunkSize) {
+      emit();
+    }
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) throws IOException {
+    while (length > 0) {
+      DataBuffer buffer = buffer();
+      int count = Math.min(length, chunkSize - buffer.writePosition());
+      buffer.write(bytes, offset, count);
+      offset += count;
+      length -= count;
+      if (buffer.writePosition() == chunkSize) {
+        emit();
+      }
+    }
+  }
+
+  private DataBuffer buffer() {
+    if (current == null) {
+      current = bufferFactory.allocateBuffer(chunkSize);
+    }
+    return current;
+  }
+
+  private synchronized void request(long n) {
+    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+    notifyAll();
+  }
+
+  private synchronized void cancel() {
+    cancelled = true;
+    notifyAll();
+  }
+
+  /**
+   * Waits until the connection asks for another buffer before handing over the current one.
+   */
+  private void emit() throws IOException {
+    synchronized (this) {
+      try {
+        while (demand == 0 && !cancelled) {
+          wait();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for the connection");
+      }
+      if (cancelled) {
+        throw new IOException("The connection was closed");
+      }
+      demand--;
+    }
+    DataBuffer buffer = current;
+    current = null;
+    sink.next(buffer);
+  }
+
+  private void finish() throws IOException {
+    if (current != null) {
+      emit();
+    }
+  }
+
+  private void release() {
+    if (current != null) {
+      DataBufferUtils.release(current);
+      current = null;
+    }
+  }
+}
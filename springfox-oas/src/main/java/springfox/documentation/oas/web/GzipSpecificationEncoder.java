@@ -0,0 +1,30 @@
+package springfox.documentation.oas.web;
+
+import org.springframework.core.Ordered;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+public class GzipSpecificationEncoder implements SpecificationEncoder, Ordered {
+  @Override
+  public String encoding() {
+    return "gzip";
+  }
+
+  @Override
+  public byte[] encode(byte[] specification) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(32, specification.length / 8));
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(specification);
+    } catch (IOException e) {
+      throw new RuntimeException("Could not gzip specification", e);
+    }
+    return out.toByteArray();
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.LOWEST_PRECEDENCE;
+  }
+}
@@ -0,0 +1,49 @@
+package springfox.documentation.oas.web;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.springframework.http.MediaType;
+import springfox.documentation.spring.web.json.JsonSerializer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link SpecificationFormat} for any Jackson data format, the rendered JSON is transcoded with the format's
+ * {@link JsonFactory}.
+ */
+public class JacksonSpecificationFormat implements SpecificationFormat {
+  private final String name;
+  private final JsonSerializer jsonSerializer;
+  private final JsonFactory factory;
+  private final boolean indent;
+  private final List<MediaType> mediaTypes;
+
+  public JacksonSpecificationFormat(
+      String name,
+      JsonSerializer jsonSerializer,
+      JsonFactory factory,
+      boolean indent,
+      MediaType... mediaTypes) {
+    this.name = name;
+    this.jsonSerializer = jsonSerializer;
+    this.factory = factory;
+    this.indent = indent;
+    this.mediaTypes = Collections.unmodifiableList(Arrays.asList(mediaTypes));
+  }
+
+  @Override
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public List<MediaType> mediaTypes() {
+    return mediaTypes;
+  }
+
+  @Override
+  public byte[] format(byte[] json) {
+    return jsonSerializer.transcode(json, factory, indent);
+  }
+}
@@ -0,0 +1,56 @@
+package springfox.documentation.oas.web;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the values computed for at most {@code maxSize} keys, evicting the least recently used one to make room for a
+ * new key. A value is computed once per key, outside the lock of the cache, so that a slow computation only holds up
+ * the callers asking for the same key.
+ */
+class LeastRecentlyUsedCache<K, V> {
+  private final Map<K, Entry<V>> entries;
+
+  LeastRecentlyUsedCache(int maxSize) {
+    this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  V get(K key, Function<? super K, ? extends V> loader) {
+    Entry<V> entry;
+    synchronized (entries) {
+      entry = entries.computeIfAbsent(key, k -> new Entry<>());
+    }
+    return entry.get(() -> loader.apply(key));
+  }
+
+  int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  private static class Entry<V> {
+    private volatile V value;
+
+    V get(Supplier<? extends V> loader) {
+      V loaded = value;
+      if (loaded == null) {
+        synchronized (this) {
+          loaded = value;
+          if (loaded == null) {
+            loaded = loader.get();
+            value = loaded;
+          }
+        }
+      }
+      return loaded;
+    }
+  }
+}
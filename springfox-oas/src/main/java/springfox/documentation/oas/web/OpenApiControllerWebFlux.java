@@ -20,33 +20,40 @@
 package springfox.documentation.oas.web;
 
 import io.swagger.v3.oas.models.OpenAPI;
+import org.reactivestreams.Publisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Conditional;
-import org.springframework.http.HttpStatus;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import springfox.documentation.annotations.ApiIgnore;
 import springfox.documentation.oas.mappers.ServiceModelToOpenApiMapper;
-import springfox.documentation.service.Documentation;
 import springfox.documentation.spi.DocumentationType;
 import springfox.documentation.spring.web.DocumentationCache;
 import springfox.documentation.spring.web.OnReactiveWebApplication;
-import springfox.documentation.spring.web.json.Json;
 import springfox.documentation.spring.web.json.JsonSerializer;
-import springfox.documentation.spring.web.plugins.Docket;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.Collectors;
 
-import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON_VALUE;
-import static springfox.documentation.oas.web.SpecGeneration.HAL_MEDIA_TYPE;
+import static springfox.documentation.oas.web.SpecGeneration.FORWARDED_PREFIX_HEADER;
+import static springfox.documentation.oas.web.SpecGeneration.OPEN_API_CACHE_ENABLED;
 import static springfox.documentation.oas.web.SpecGeneration.OPEN_API_SPECIFICATION_PATH;
 
 @ApiIgnore
@@ -56,10 +63,9 @@ import static springfox.documentation.oas.web.SpecGeneration.OPEN_API_SPECIFICAT
 @Conditional(OnReactiveWebApplication.class)
 public class OpenApiControllerWebFlux {
 
-  private final DocumentationCache documentationCache;
-  private final ServiceModelToOpenApiMapper mapper;
   private final JsonSerializer jsonSerializer;
   private final PluginRegistry<WebFluxOpenApiTransformationFilter, DocumentationType> transformations;
+  private final SpecificationResponder responder;
 
   @Autowired
   public OpenApiControllerWebFlux(
@@ -67,33 +73,118 @@ public class OpenApiControllerWebFlux {
       ServiceModelToOpenApiMapper mapper,
       JsonSerializer jsonSerializer,
       @Qualifier("webFluxOpenApiTransformationFilterRegistry")
-          PluginRegistry<WebFluxOpenApiTransformationFilter, DocumentationType> transformations) {
-    this.documentationCache = documentationCache;
-    this.mapper = mapper;
+          PluginRegistry<WebFluxOpenApiTransformationFilter, DocumentationType> transformations,
+      RenderedSpecificationCache renderedSpecifications,
+      SpecificationEncoders encoders,
+      SpecificationFormats formats,
+      OpenApiDocumentationSnapshots snapshots,
+      @Value(OPEN_API_CACHE_ENABLED) boolean cacheEnabled) {
     this.jsonSerializer = jsonSerializer;
     this.transformations = transformations;
+    this.responder = new SpecificationResponder(
+        documentationCache,
+        mapper,
+        jsonSerializer,
+        renderedSpecifications,
+        encoders,
+        formats,
+        snapshots,
+        cacheEnabled);
   }
 
-  @GetMapping(
-      produces = {
-          APPLICATION_JSON_VALUE,
-          HAL_MEDIA_TYPE})
-  public ResponseEntity<Json> getDocumentation(
+  /**
+   * The response is worked out on a thread that may block: a group registered for a scan on request is scanned by the
+   * first request for it, and specifications missing from the cache are mapped and rendered.
+   */
+  @GetMapping
+  public Mono<ResponseEntity<Publisher<DataBuffer>>> getDocumentation(
       @RequestParam(value = "group", required = false) String swaggerGroup,
-      ServerHttpRequest serverRequest) {
-    String groupName = Optional.ofNullable(swaggerGroup).orElse(Docket.DEFAULT_GROUP_NAME);
-    Documentation documentation = documentationCache.documentationByGroup(groupName);
-    if (documentation == null) {
-      return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+      @RequestParam(value = "tag", required = false) String tag,
+      @RequestParam(value = "pathPrefix", required = false) String pathPrefix,
+      @RequestParam(value = "format", required = false) String format,
+      ServerHttpRequest serverRequest,
+      ServerHttpResponse serverResponse) {
+    SpecificationRequest<ServerHttpRequest> request
+        = new WebFluxSpecificationRequest(serverRequest, transformations.getPluginsFor(DocumentationType.OAS_30));
+    return Mono.fromCallable(() -> responder.respond(swaggerGroup, tag, pathPrefix, format, request))
+        .subscribeOn(Schedulers.boundedElastic())
+        .map(response -> toResponseEntity(response, serverResponse.bufferFactory()));
+  }
+
+  private ResponseEntity<Publisher<DataBuffer>> toResponseEntity(
+      SpecificationResponse response,
+      DataBufferFactory bufferFactory) {
+    if (response.getSpecification() != null) {
+      return new ResponseEntity<>(
+          write(response.getSpecification(), bufferFactory),
+          response.getHeaders(),
+          response.getStatus());
     }
-    OpenAPI oas = mapper.mapDocumentation(documentation);
-    OpenApiTransformationContext<ServerHttpRequest> context
-        = new OpenApiTransformationContext<>(oas, serverRequest);
-    List<WebFluxOpenApiTransformationFilter> filters = transformations.getPluginsFor(DocumentationType.SWAGGER_2);
-    for (WebFluxOpenApiTransformationFilter each : filters) {
-      context = context.next(each.transform(context));
+    if (response.getSegments() != null) {
+      return new ResponseEntity<>(
+          Mono.just(bufferFactory.join(response.getSegments().stream()
+              .map(bufferFactory::wrap)
+              .collect(Collectors.toList()))),
+          response.getHeaders(),
+          response.getStatus());
     }
-    return new ResponseEntity<>(jsonSerializer.toJson(context.getSpecification()), HttpStatus.OK);
+    if (response.getBody() != null) {
+      return new ResponseEntity<>(
+          Mono.just(bufferFactory.wrap(response.getBody())),
+          response.getHeaders(),
+          response.getStatus());
+    }
+    return new ResponseEntity<>(response.getHeaders(), response.getStatus());
+  }
+
+  /**
+   * Serializes straight into buffers of a fixed size handed to the connection as it asks for them, instead of building
+   * the whole document in memory.
+   */
+  private Flux<DataBuffer> write(OpenAPI specification, DataBufferFactory bufferFactory) {
+    return DataBufferOutputStream.write(
+        out -> jsonSerializer.writeTo(specification, out),
+        bufferFactory,
+        DataBufferOutputStream.DEFAULT_CHUNK_SIZE);
   }
 
+  private static class WebFluxSpecificationRequest extends SpecificationRequest<ServerHttpRequest> {
+    private final ServerHttpRequest serverRequest;
+
+    WebFluxSpecificationRequest(
+        ServerHttpRequest serverRequest,
+        List<WebFluxOpenApiTransformationFilter> filters) {
+      super(serverRequest, filters);
+      this.serverRequest = serverRequest;
+    }
+
+    @Override
+    List<String> headers(String name) {
+      return serverRequest.getHeaders().getOrEmpty(name);
+    }
+
+    /**
+     * The forwarded server url and the forwarded prefix.
+     */
+    @Override
+    String variant() {
+      UriComponents uri = UriComponentsBuilder.fromHttpRequest(serverRequest).build();
+      String serverUrl = String.format("%s://%s:%s", uri.getScheme(), uri.getHost(), uri.getPort());
+      String prefix = serverRequest.getHeaders().getFirst(FORWARDED_PREFIX_HEADER);
+      return StringUtils.hasText(prefix) ? serverUrl + "|" + prefix : serverUrl;
+    }
+
+    @Override
+    boolean isBuiltIn(OpenApiTransformationFilter<ServerHttpRequest> filter) {
+      return filter.getClass() == WebFluxBasePathAndHostnameTransformationFilter.class
+          || filter.getClass() == WebFluxForwardedPrefixTransformationFilter.class;
+    }
+
+    @Override
+    String inferredServerUrl(OpenApiTransformationFilter<ServerHttpRequest> filter) {
+      return filter instanceof WebFluxBasePathAndHostnameTransformationFilter
+             ? ((WebFluxBasePathAndHostnameTransformationFilter) filter).inferredServer(serverRequest).getUrl()
+             : null;
+    }
+  }
 }
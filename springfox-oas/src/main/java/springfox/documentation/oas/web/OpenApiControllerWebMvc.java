@@ -19,34 +19,35 @@
 
 package springfox.documentation.oas.web;
 
-import io.swagger.v3.oas.models.OpenAPI;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Conditional;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UrlPathHelper;
 import springfox.documentation.annotations.ApiIgnore;
 import springfox.documentation.oas.mappers.ServiceModelToOpenApiMapper;
-import springfox.documentation.service.Documentation;
 import springfox.documentation.spi.DocumentationType;
 import springfox.documentation.spring.web.DocumentationCache;
 import springfox.documentation.spring.web.OnServletBasedWebApplication;
-import springfox.documentation.spring.web.json.Json;
 import springfox.documentation.spring.web.json.JsonSerializer;
-import springfox.documentation.spring.web.plugins.Docket;
 
 import javax.servlet.http.HttpServletRequest;
+import java.nio.ByteBuffer;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
-import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON_VALUE;
-import static springfox.documentation.oas.web.SpecGeneration.HAL_MEDIA_TYPE;
+import static springfox.documentation.oas.web.SpecGeneration.FORWARDED_PREFIX_HEADER;
+import static springfox.documentation.oas.web.SpecGeneration.OPEN_API_CACHE_ENABLED;
 import static springfox.documentation.oas.web.SpecGeneration.OPEN_API_SPECIFICATION_PATH;
 
 @ApiIgnore
@@ -56,10 +57,9 @@ import static springfox.documentation.oas.web.SpecGeneration.OPEN_API_SPECIFICAT
 @Conditional(OnServletBasedWebApplication.class)
 public class OpenApiControllerWebMvc {
 
-  private final DocumentationCache documentationCache;
-  private final ServiceModelToOpenApiMapper mapper;
   private final JsonSerializer jsonSerializer;
   private final PluginRegistry<WebMvcOpenApiTransformationFilter, DocumentationType> transformations;
+  private final SpecificationResponder responder;
 
   @Autowired
   public OpenApiControllerWebMvc(
@@ -67,32 +67,105 @@ public class OpenApiControllerWebMvc {
       ServiceModelToOpenApiMapper mapper,
       JsonSerializer jsonSerializer,
       @Qualifier("webMvcOpenApiTransformationFilterRegistry")
-          PluginRegistry<WebMvcOpenApiTransformationFilter, DocumentationType> transformations) {
-    this.documentationCache = documentationCache;
-    this.mapper = mapper;
+          PluginRegistry<WebMvcOpenApiTransformationFilter, DocumentationType> transformations,
+      RenderedSpecificationCache renderedSpecifications,
+      SpecificationEncoders encoders,
+      SpecificationFormats formats,
+      OpenApiDocumentationSnapshots snapshots,
+      @Value(OPEN_API_CACHE_ENABLED) boolean cacheEnabled) {
     this.jsonSerializer = jsonSerializer;
     this.transformations = transformations;
+    this.responder = new SpecificationResponder(
+        documentationCache,
+        mapper,
+        jsonSerializer,
+        renderedSpecifications,
+        encoders,
+        formats,
+        snapshots,
+        cacheEnabled);
   }
 
-  @GetMapping(
-      produces = {
-          APPLICATION_JSON_VALUE,
-          HAL_MEDIA_TYPE})
-  public ResponseEntity<Json> getDocumentation(
+  @GetMapping
+  public ResponseEntity<StreamingResponseBody> getDocumentation(
       @RequestParam(value = "group", required = false) String group,
+      @RequestParam(value = "tag", required = false) String tag,
+      @RequestParam(value = "pathPrefix", required = false) String pathPrefix,
+      @RequestParam(value = "format", required = false) String format,
       HttpServletRequest servletRequest) {
-    String groupName = Optional.ofNullable(group).orElse(Docket.DEFAULT_GROUP_NAME);
-    Documentation documentation = documentationCache.documentationByGroup(groupName);
-    if (documentation == null) {
-      return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+    SpecificationResponse response = responder.respond(
+        group,
+        tag,
+        pathPrefix,
+        format,
+        new WebMvcSpecificationRequest(servletRequest, transformations.getPluginsFor(DocumentationType.OAS_30)));
+    HttpHeaders headers = response.getHeaders();
+    if (response.getSpecification() != null) {
+      return new ResponseEntity<>(
+          out -> jsonSerializer.writeTo(response.getSpecification(), out),
+          headers,
+          response.getStatus());
     }
-    OpenAPI oas = mapper.mapDocumentation(documentation);
-    OpenApiTransformationContext<HttpServletRequest> context
-        = new OpenApiTransformationContext<>(oas, servletRequest);
-    List<WebMvcOpenApiTransformationFilter> filters = transformations.getPluginsFor(DocumentationType.OAS_30);
-    for (WebMvcOpenApiTransformationFilter each : filters) {
-      context = context.next(each.transform(context));
+    if (response.getSegments() != null) {
+      return new ResponseEntity<>(write(response.getSegments(), headers), headers, response.getStatus());
+    }
+    if (response.getBody() != null) {
+      byte[] body = response.getBody();
+      headers.setContentLength(body.length);
+      return new ResponseEntity<>(out -> out.write(body), headers, response.getStatus());
+    }
+    return new ResponseEntity<>(headers, response.getStatus());
+  }
+
+  /**
+   * Writes the shared bytes and the server url of the request straight to the response, without joining them first.
+   */
+  private static StreamingResponseBody write(List<ByteBuffer> segments, HttpHeaders headers) {
+    headers.setContentLength(segments.stream().mapToInt(ByteBuffer::remaining).sum());
+    return out -> {
+      for (ByteBuffer each : segments) {
+        out.write(each.array(), each.arrayOffset() + each.position(), each.remaining());
+      }
+    };
+  }
+
+  private static class WebMvcSpecificationRequest extends SpecificationRequest<HttpServletRequest> {
+    private final HttpServletRequest servletRequest;
+
+    WebMvcSpecificationRequest(
+        HttpServletRequest servletRequest,
+        List<WebMvcOpenApiTransformationFilter> filters) {
+      super(servletRequest, filters);
+      this.servletRequest = servletRequest;
+    }
+
+    @Override
+    List<String> headers(String name) {
+      return Collections.list(servletRequest.getHeaders(name));
+    }
+
+    /**
+     * The inferred server url and the forwarded prefix.
+     */
+    @Override
+    String variant() {
+      String serverUrl = new ForwardedHeaderExtractingRequest(servletRequest, new UrlPathHelper())
+          .adjustedRequestURL();
+      String prefix = servletRequest.getHeader(FORWARDED_PREFIX_HEADER);
+      return StringUtils.hasText(prefix) ? serverUrl + "|" + prefix : serverUrl;
+    }
+
+    @Override
+    boolean isBuiltIn(OpenApiTransformationFilter<HttpServletRequest> filter) {
+      return filter.getClass() == WebMvcBasePathAndHostnameTransformationFilter.class
+          || filter.getClass() == WebMvcForwardedPrefixTransformationFilter.class;
+    }
+
+    @Override
+    String inferredServerUrl(OpenApiTransformationFilter<HttpServletRequest> filter) {
+      return filter instanceof WebMvcBasePathAndHostnameTransformationFilter
+             ? ((WebMvcBasePathAndHostnameTransformationFilter) filter).inferredServer(servletRequest).getUrl()
+             : null;
     }
-    return new ResponseEntity<>(jsonSerializer.toJson(oas), HttpStatus.OK);
   }
 }
@@ -0,0 +1,175 @@
+/*
+ *
+ *  Copyright 2017-2018 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.oas.web;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
+import springfox.documentation.oas.mappers.ServiceModelToOpenApiMapper;
+import springfox.documentation.service.Documentation;
+import springfox.documentation.spi.DocumentationType;
+import springfox.documentation.spring.web.DocumentationSnapshotStore;
+import springfox.documentation.spring.web.json.JsonSerializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static springfox.documentation.spring.web.EntityTags.digest;
+
+/**
+ * Snapshots of the open api specification of each group, so that an application can be started without scanning.
+ * <p>
+ * Starting the application once with a dump directory scans every group and writes its specification, as mapped
+ * from the documentation but before any transformation filter, along with an index holding the fingerprint of the
+ * request handlers. Packaged at the snapshot location, the specifications are served as long as the fingerprint of
+ * the running application matches; the transformation filters still run on every rendering. The fingerprint does not
+ * cover the models or the docket settings, the snapshot is meant to be generated as part of the build.
+ */
+public class OpenApiDocumentationSnapshots implements DocumentationSnapshotStore {
+  public static final String INDEX = "springfox-snapshot.json";
+  private static final Logger LOGGER = LoggerFactory.getLogger(OpenApiDocumentationSnapshots.class);
+  private static final String FINGERPRINT = "fingerprint";
+  private static final String GROUPS = "groups";
+  private static final String OPEN_API_TYPE
+      = DocumentationType.OAS_30.getName() + "_" + DocumentationType.OAS_30.getVersion();
+
+  private final ResourceLoader resourceLoader;
+  private final String location;
+  private final String dumpDirectory;
+  private final ServiceModelToOpenApiMapper mapper;
+  private final JsonSerializer jsonSerializer;
+  private final Map<String, byte[]> specifications = new ConcurrentHashMap<>();
+
+  public OpenApiDocumentationSnapshots(
+      ResourceLoader resourceLoader,
+      String location,
+      String dumpDirectory,
+      ServiceModelToOpenApiMapper mapper,
+      JsonSerializer jsonSerializer) {
+    this.resourceLoader = resourceLoader;
+    this.location = location.endsWith("/") ? location : location + "/";
+    this.dumpDirectory = dumpDirectory;
+    this.mapper = mapper;
+    this.jsonSerializer = jsonSerializer;
+  }
+
+  /**
+   * Active while dumping, or when there is an index at the snapshot location.
+   */
+  @Override
+  public boolean isActive() {
+    return StringUtils.hasText(dumpDirectory) || resourceLoader.getResource(location + INDEX).exists();
+  }
+
+  /**
+   * Nothing is restored while dumping, every group is scanned.
+   */
+  @Override
+  public Map<String, String> restore(String fingerprint) {
+    specifications.clear();
+    if (StringUtils.hasText(dumpDirectory)) {
+      return Collections.emptyMap();
+    }
+    Resource index = resourceLoader.getResource(location + INDEX);
+    if (!index.exists()) {
+      return Collections.emptyMap();
+    }
+    try {
+      Map<?, ?> content = jsonSerializer.fromJson(read(index), Map.class);
+      if (!fingerprint.equals(content.get(FINGERPRINT))) {
+        LOGGER.info("Documentation snapshot {} is stale, the documentation will be scanned", index.getDescription());
+        return Collections.emptyMap();
+      }
+      Map<String, String> restored = new LinkedHashMap<>();
+      for (Map.Entry<?, ?> each : ((Map<?, ?>) content.get(GROUPS)).entrySet()) {
+        String groupName = String.valueOf(each.getKey());
+        specifications.put(groupName, read(resourceLoader.getResource(location + each.getValue())));
+        restored.put(groupName, OPEN_API_TYPE);
+      }
+      return restored;
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warn("Unable to restore documentation snapshot {}", index.getDescription(), e);
+      specifications.clear();
+      return Collections.emptyMap();
+    }
+  }
+
+  /**
+   * Writes the specification of the open api groups to the dump directory, if there is one.
+   */
+  @Override
+  public synchronized void store(String fingerprint, Map<String, Documentation> documentation) {
+    if (!StringUtils.hasText(dumpDirectory)) {
+      return;
+    }
+    Path directory = Paths.get(dumpDirectory);
+    try {
+      Files.createDirectories(directory);
+      Map<String, String> groups = new LinkedHashMap<>();
+      for (Documentation each : documentation.values()) {
+        if (OPEN_API_TYPE.equals(each.getDocumentationType())) {
+          String file = "openapi-" + digest(each.getGroupName()) + ".json";
+          Files.write(directory.resolve(file), jsonSerializer.toJsonBytes(mapper.mapDocumentation(each)));
+          groups.put(each.getGroupName(), file);
+        }
+      }
+      Map<String, Object> index = new LinkedHashMap<>();
+      index.put(FINGERPRINT, fingerprint);
+      index.put(GROUPS, groups);
+      Files.write(directory.resolve(INDEX), jsonSerializer.toJsonBytes(index));
+      LOGGER.info("Wrote documentation snapshot of {} group(s) to {}", groups.size(), directory.toAbsolutePath());
+    } catch (IOException | RuntimeException e) {
+      LOGGER.error("Unable to write documentation snapshot to {}", directory.toAbsolutePath(), e);
+    }
+  }
+
+  /**
+   * @param groupName the documentation group
+   * @return the snapshot of the group, or null if it was not restored
+   */
+  public byte[] specification(String groupName) {
+    return specifications.get(groupName);
+  }
+
+  /**
+   * @param specification a snapshot returned by {@link #specification(String)}
+   * @return a new copy of the specification, ready to be transformed
+   */
+  public OpenAPI read(byte[] specification) {
+    return jsonSerializer.fromJson(specification, OpenAPI.class);
+  }
+
+  private static byte[] read(Resource resource) throws IOException {
+    try (InputStream in = resource.getInputStream()) {
+      return StreamUtils.copyToByteArray(in);
+    }
+  }
+}
@@ -0,0 +1,326 @@
+/*
+ *
+ *  Copyright 2017-2018 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.oas.web;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.tags.Tag;
+import springfox.documentation.spring.web.json.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Indexes an unfiltered open api specification by tag and path, with the component schemas each operation refers
+ * to, so that the part of the specification a client asks for can be assembled without mapping the whole
+ * documentation again.
+ * <p>
+ * The index shares the path items, operations and schemas of the specification it was built from; neither the index
+ * nor the specifications it assembles may be modified, apart from replacing their top level properties.
+ */
+public class OpenApiSpecificationIndex {
+  private static final String SCHEMA_REFERENCE_PREFIX = "\"#/components/schemas/";
+  private static final Pattern SCHEMA_REFERENCE = Pattern.compile("\"#/components/schemas/((?:[^\"\\\\]|\\\\.)*)\"");
+
+  private final OpenAPI specification;
+  private final Map<String, IndexedPath> paths = new LinkedHashMap<>();
+  private final Map<String, Set<String>> pathsByTag = new HashMap<>();
+  private final Map<String, Set<String>> schemaReferences = new HashMap<>();
+  private final Map<String, Integer> schemaPositions = new HashMap<>();
+
+  public OpenApiSpecificationIndex(OpenAPI specification, JsonSerializer jsonSerializer) {
+    this.specification = specification;
+    if (specification.getPaths() != null) {
+      for (Map.Entry<String, PathItem> each : specification.getPaths().entrySet()) {
+        IndexedPath path = new IndexedPath(each.getValue(), jsonSerializer);
+        paths.put(each.getKey(), path);
+        for (IndexedOperation operation : path.operations.values()) {
+          for (String tag : operation.tags()) {
+            pathsByTag.computeIfAbsent(tag, key -> new LinkedHashSet<>()).add(each.getKey());
+          }
+        }
+      }
+    }
+    Map<String, Schema> schemas = specification.getComponents() != null
+                                  ? specification.getComponents().getSchemas()
+                                  : null;
+    if (schemas != null) {
+      for (Map.Entry<String, Schema> each : schemas.entrySet()) {
+        schemaPositions.put(each.getKey(), schemaPositions.size());
+        schemaReferences.put(each.getKey(), references(each.getValue(), jsonSerializer));
+      }
+    }
+  }
+
+  /**
+   * @param tag the {@code tag} request parameter
+   * @return the tag without surrounding whitespace, or null when none is selected
+   */
+  public static String normalizedTag(String tag) {
+    if (tag == null || tag.trim().isEmpty()) {
+      return null;
+    }
+    return tag.trim();
+  }
+
+  /**
+   * @param pathPrefix the {@code pathPrefix} request parameter
+   * @return the prefix without surrounding whitespace, repeated and trailing slashes, starting with a slash, or null
+   * when it selects every path
+   */
+  public static String normalizedPathPrefix(String pathPrefix) {
+    if (pathPrefix == null) {
+      return null;
+    }
+    String normalized = ("/" + pathPrefix.trim()).replaceAll("/{2,}", "/").replaceAll("/$", "");
+    return normalized.isEmpty() ? null : normalized;
+  }
+
+  /**
+   * @param tag        the selected tag, normalized, may be null
+   * @param pathPrefix the selected path prefix, normalized, may be null
+   * @return the part of the rendered specification cache key that identifies the selection
+   */
+  public static String selection(String tag, String pathPrefix) {
+    StringBuilder selection = new StringBuilder();
+    if (tag != null && !tag.isEmpty()) {
+      selection.append("|tag=").append(tag);
+    }
+    if (pathPrefix != null && !pathPrefix.isEmpty()) {
+      selection.append("|pathPrefix=").append(pathPrefix);
+    }
+    return selection.toString();
+  }
+
+  /**
+   * @param tag        only operations carrying this tag, or null for every operation
+   * @param pathPrefix only paths under this prefix, or null for every path
+   * @return whether the selection matches at least one operation
+   */
+  public boolean selects(String tag, String pathPrefix) {
+    Iterable<String> candidates = tag != null
+                                  ? pathsByTag.getOrDefault(tag, Collections.emptySet())
+                                  : paths.keySet();
+    for (String path : candidates) {
+      if ((pathPrefix == null || isUnder(path, pathPrefix)) && !paths.get(path).operations.isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Assembles the part of the specification selected by tag and path prefix: the matching operations, the component
+   * schemas they refer to, directly or through other schemas, and the tag definitions they use.
+   *
+   * @param tag        only operations carrying this tag, or null for every operation
+   * @param pathPrefix only paths under this prefix, or null for every path
+   * @return a new specification sharing the selected parts of the indexed one
+   */
+  public OpenAPI select(String tag, String pathPrefix) {
+    Iterable<String> candidates = tag != null
+                                  ? pathsByTag.getOrDefault(tag, Collections.emptySet())
+                                  : paths.keySet();
+    Paths selectedPaths = new Paths();
+    selectedPaths.setExtensions(specification.getPaths() != null ? specification.getPaths().getExtensions() : null);
+    Set<String> usedTags = new HashSet<>();
+    Set<String> referencedSchemas = new HashSet<>();
+    for (String path : candidates) {
+      if (pathPrefix != null && !isUnder(path, pathPrefix)) {
+        continue;
+      }
+      IndexedPath indexed = paths.get(path);
+      PathItem item = tag != null ? indexed.withTag(tag) : indexed.item;
+      selectedPaths.put(path, item);
+      referencedSchemas.addAll(indexed.references);
+      for (Map.Entry<PathItem.HttpMethod, IndexedOperation> each : indexed.operations.entrySet()) {
+        if (tag == null || each.getValue().tags().contains(tag)) {
+          usedTags.addAll(each.getValue().tags());
+          referencedSchemas.addAll(each.getValue().references);
+        }
+      }
+    }
+
+    OpenAPI selected = new OpenAPI();
+    selected.setOpenapi(specification.getOpenapi());
+    selected.setInfo(specification.getInfo());
+    selected.setExternalDocs(specification.getExternalDocs());
+    selected.setServers(specification.getServers() != null ? new ArrayList<>(specification.getServers()) : null);
+    selected.setSecurity(specification.getSecurity());
+    selected.setTags(tags(usedTags));
+    selected.setPaths(selectedPaths);
+    selected.setComponents(components(closure(referencedSchemas)));
+    selected.setExtensions(specification.getExtensions());
+    return selected;
+  }
+
+  /**
+   * Whether the path is the prefix or lies below it: {@code /users} selects {@code /users/{id}}, not
+   * {@code /userAdmin}.
+   */
+  private static boolean isUnder(String path, String pathPrefix) {
+    return path.equals(pathPrefix) || path.startsWith(pathPrefix + "/");
+  }
+
+  private List<Tag> tags(Set<String> usedTags) {
+    if (specification.getTags() == null) {
+      return null;
+    }
+    List<Tag> tags = new ArrayList<>();
+    for (Tag each : specification.getTags()) {
+      if (usedTags.contains(each.getName())) {
+        tags.add(each);
+      }
+    }
+    return tags;
+  }
+
+  private Set<String> closure(Set<String> referenced) {
+    Set<String> closure = new HashSet<>();
+    Deque<String> pending = new ArrayDeque<>(referenced);
+    while (!pending.isEmpty()) {
+      String name = pending.pop();
+      if (closure.add(name)) {
+        pending.addAll(schemaReferences.getOrDefault(name, Collections.emptySet()));
+      }
+    }
+    return closure;
+  }
+
+  private Components components(Set<String> schemaNames) {
+    Components components = specification.getComponents();
+    if (components == null) {
+      return null;
+    }
+    Components selected = new Components();
+    if (components.getSchemas() != null) {
+      List<String> ordered = new ArrayList<>();
+      for (String each : schemaNames) {
+        if (schemaPositions.containsKey(each)) {
+          ordered.add(each);
+        }
+      }
+      ordered.sort(Comparator.comparing(schemaPositions::get));
+      Map<String, Schema> schemas = new LinkedHashMap<>();
+      for (String each : ordered) {
+        schemas.put(each, components.getSchemas().get(each));
+      }
+      selected.setSchemas(schemas);
+    }
+    selected.setResponses(components.getResponses());
+    selected.setParameters(components.getParameters());
+    selected.setExamples(components.getExamples());
+    selected.setRequestBodies(components.getRequestBodies());
+    selected.setHeaders(components.getHeaders());
+    selected.setSecuritySchemes(components.getSecuritySchemes());
+    selected.setLinks(components.getLinks());
+    selected.setCallbacks(components.getCallbacks());
+    selected.setExtensions(components.getExtensions());
+    return selected;
+  }
+
+  /**
+   * Finds schema references the way clients see them, in the serialized form, so that no place a reference can
+   * appear in is missed.
+   */
+  private static Set<String> references(Object fragment, JsonSerializer jsonSerializer) {
+    if (fragment == null) {
+      return Collections.emptySet();
+    }
+    String json = new String(jsonSerializer.toJsonBytes(fragment), StandardCharsets.UTF_8);
+    if (!json.contains(SCHEMA_REFERENCE_PREFIX)) {
+      return Collections.emptySet();
+    }
+    Set<String> references = new HashSet<>();
+    Matcher matcher = SCHEMA_REFERENCE.matcher(json);
+    while (matcher.find()) {
+      references.add(matcher.group(1).replaceAll("\\\\(.)", "$1"));
+    }
+    return references;
+  }
+
+  private static class IndexedPath {
+    private final PathItem item;
+    private final Set<String> references;
+    private final Map<PathItem.HttpMethod, IndexedOperation> operations = new LinkedHashMap<>();
+
+    IndexedPath(PathItem item, JsonSerializer jsonSerializer) {
+      this.item = item;
+      this.references = references(item.getParameters(), jsonSerializer);
+      for (Map.Entry<PathItem.HttpMethod, Operation> each : item.readOperationsMap().entrySet()) {
+        operations.put(each.getKey(), new IndexedOperation(each.getValue(), jsonSerializer));
+      }
+    }
+
+    PathItem withTag(String tag) {
+      boolean all = true;
+      for (IndexedOperation each : operations.values()) {
+        all &= each.tags().contains(tag);
+      }
+      if (all) {
+        return item;
+      }
+      PathItem selected = new PathItem()
+          .summary(item.getSummary())
+          .description(item.getDescription())
+          .servers(item.getServers())
+          .parameters(item.getParameters())
+          .$ref(item.get$ref())
+          .extensions(item.getExtensions());
+      for (Map.Entry<PathItem.HttpMethod, IndexedOperation> each : operations.entrySet()) {
+        if (each.getValue().tags().contains(tag)) {
+          selected.operation(each.getKey(), each.getValue().operation);
+        }
+      }
+      return selected;
+    }
+  }
+
+  private static class IndexedOperation {
+    private final Operation operation;
+    private final Set<String> references;
+
+    IndexedOperation(Operation operation, JsonSerializer jsonSerializer) {
+      this.operation = operation;
+      this.references = references(operation, jsonSerializer);
+    }
+
+    List<String> tags() {
+      return operation.getTags() != null ? operation.getTags() : Collections.emptyList();
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package springfox.documentation.oas.web;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.servers.Server;
+import springfox.documentation.spring.web.EntityTags;
+import springfox.documentation.spring.web.json.JsonSerializer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A serialized specification and the formatted and content encoded variants derived from it, which are computed on
+ * first use.
+ * <p>
+ * A specification rendered {@link #withServerUrlSlot(OpenAPI, String, JsonSerializer) with a server url slot} is
+ * shared by every server url it is served from: the JSON is written as the bytes before the url, the url and the
+ * bytes after it, and the other variants are derived from the JSON of each url.
+ */
+public class RenderedSpecification {
+  private static final String SERVER_URL_PLACEHOLDER = "springfox-server-url-" + EntityTags.newToken();
+
+  private final byte[] json;
+  private final int slotStart;
+  private final int slotEnd;
+  private final ConcurrentMap<String, byte[]> formatted = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, byte[]> encoded = new ConcurrentHashMap<>();
+  private final LeastRecentlyUsedCache<String, RenderedSpecification> byServerUrl;
+
+  public RenderedSpecification(byte[] json) {
+    this(json, -1, -1, 0);
+  }
+
+  private RenderedSpecification(byte[] json, int slotStart, int slotEnd, int maxServerUrls) {
+    this.json = json;
+    this.slotStart = slotStart;
+    this.slotEnd = slotEnd;
+    this.byServerUrl = slotStart >= 0 ? new LeastRecentlyUsedCache<>(maxServerUrls) : null;
+  }
+
+  /**
+   * Serializes the specification with a placeholder instead of the url of its server, when its only server is the
+   * given one.
+   *
+   * @param specification  the transformed specification
+   * @param serverUrl      the url inferred for the request the specification was transformed for, if any
+   * @param jsonSerializer the serializer
+   * @param maxServerUrls  the number of server urls whose formatted and encoded variants are kept, like the variants
+   *                       of a group in the {@link RenderedSpecificationCache}
+   * @return the rendered specification, with a server url slot if the url was found
+   */
+  public static RenderedSpecification withServerUrlSlot(
+      OpenAPI specification,
+      String serverUrl,
+      JsonSerializer jsonSerializer,
+      int maxServerUrls) {
+    List<Server> servers = specification.getServers();
+    if (serverUrl == null
+        || servers == null
+        || servers.size() != 1
+        || !serverUrl.equals(servers.get(0).getUrl())) {
+      return new RenderedSpecification(jsonSerializer.toJsonBytes(specification));
+    }
+    Server server = servers.get(0);
+    specification.setServers(Collections.singletonList(new Server()
+        .url(SERVER_URL_PLACEHOLDER)
+        .description(server.getDescription())
+        .variables(server.getVariables())
+        .extensions(server.getExtensions())));
+    byte[] json;
+    try {
+      json = jsonSerializer.toJsonBytes(specification);
+    } finally {
+      specification.setServers(servers);
+    }
+    int slotStart = indexOf(json, SERVER_URL_PLACEHOLDER.getBytes(StandardCharsets.UTF_8));
+    if (slotStart < 0) {
+      return new RenderedSpecification(jsonSerializer.toJsonBytes(specification));
+    }
+    return new RenderedSpecification(json, slotStart, slotStart + SERVER_URL_PLACEHOLDER.length(), maxServerUrls);
+  }
+
+  public boolean hasServerUrlSlot() {
+    return slotStart >= 0;
+  }
+
+  /**
+   * @param serverUrl the url inferred for the request
+   * @return the JSON as the segments to write in order, without copying the shared bytes
+   */
+  public List<ByteBuffer> segments(String serverUrl) {
+    if (!hasServerUrlSlot()) {
+      return Collections.singletonList(ByteBuffer.wrap(json));
+    }
+    return Arrays.asList(
+        ByteBuffer.wrap(json, 0, slotStart),
+        ByteBuffer.wrap(JsonStringEncoder.getInstance().quoteAsUTF8(serverUrl)),
+        ByteBuffer.wrap(json, slotEnd, json.length - slotEnd));
+  }
+
+  /**
+   * @param serverUrl the url inferred for the request
+   * @return the specification served from the url, whose formatted and encoded variants are kept for the most
+   * recently used urls
+   */
+  public RenderedSpecification forServerUrl(String serverUrl) {
+    if (!hasServerUrlSlot()) {
+      return this;
+    }
+    return byServerUrl.get(serverUrl, key -> new RenderedSpecification(spliced(key)));
+  }
+
+  private byte[] spliced(String serverUrl) {
+    List<ByteBuffer> segments = segments(serverUrl);
+    ByteBuffer spliced = ByteBuffer.allocate(segments.stream().mapToInt(ByteBuffer::remaining).sum());
+    segments.forEach(spliced::put);
+    return spliced.array();
+  }
+
+  private static int indexOf(byte[] content, byte[] value) {
+    outer:
+    for (int i = 0; i <= content.length - value.length; i++) {
+      for (int j = 0; j < value.length; j++) {
+        if (content[i + j] != value[j]) {
+          continue outer;
+        }
+      }
+      return i;
+    }
+    return -1;
+  }
+
+  public byte[] getJson() {
+    return json;
+  }
+
+  public byte[] formatted(SpecificationFormat format) {
+    if (format == SpecificationFormats.JSON) {
+      return json;
+    }
+    return formatted.computeIfAbsent(format.name(), key -> format.format(json));
+  }
+
+  public byte[] encoded(SpecificationEncoder encoder) {
+    return encoded(SpecificationFormats.JSON, encoder);
+  }
+
+  public byte[] encoded(SpecificationFormat format, SpecificationEncoder encoder) {
+    return encoded.computeIfAbsent(
+        format.name() + "/" + encoder.encoding(),
+        key -> encoder.encode(formatted(format)));
+  }
+}
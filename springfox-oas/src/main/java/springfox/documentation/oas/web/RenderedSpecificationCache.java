@@ -0,0 +1,149 @@
+/*
+ *
+ *  Copyright 2017-2018 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.oas.web;
+
+import springfox.documentation.service.Documentation;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the serialized open api specification of each group, per request variant (forwarded prefix, selection), so
+ * that the mapping, the transformation filters and the serialization only run once per variant. The server url is
+ * written into the shared {@link RenderedSpecification} per request. Only the output of the built in transformation
+ * filters is kept, which depends on nothing else in the request.
+ * <p>
+ * Entries are tied to the {@link Documentation} instance, or the snapshot, they were rendered from; when the
+ * documentation cache is refreshed the group is rendered again on the next request. The same goes for the
+ * {@link OpenApiSpecificationIndex} partial specifications are assembled from.
+ */
+public class RenderedSpecificationCache {
+  public static final int DEFAULT_MAX_VARIANTS_PER_GROUP = 16;
+
+  private final int maxVariantsPerGroup;
+  private final ConcurrentMap<String, GroupVariants> groups = new ConcurrentHashMap<>();
+
+  public RenderedSpecificationCache() {
+    this(DEFAULT_MAX_VARIANTS_PER_GROUP);
+  }
+
+  public RenderedSpecificationCache(int maxVariantsPerGroup) {
+    this.maxVariantsPerGroup = maxVariantsPerGroup;
+  }
+
+  /**
+   * Returns the rendered specification for the given group and variant, rendering it if needed.
+   * Each group keeps its {@code maxVariantsPerGroup} most recently used variants, so that variants made up by clients
+   * only push each other out.
+   *
+   * @param groupName     the documentation group
+   * @param source        the documentation or the snapshot currently stored for the group
+   * @param variant       key of everything in the request that affects the rendered output
+   * @param renderer      renders the specification
+   * @return the rendered specification
+   */
+  public RenderedSpecification get(
+      String groupName,
+      Object source,
+      String variant,
+      Supplier<RenderedSpecification> renderer) {
+    return group(groupName, source).rendered.get(variant, key -> renderer.get());
+  }
+
+  /**
+   * Returns the index of the unfiltered specification of the group, building it once per source.
+   *
+   * @param groupName the documentation group
+   * @param source    the documentation or the snapshot currently stored for the group
+   * @param indexer   maps and indexes the specification
+   * @return the index
+   */
+  public OpenApiSpecificationIndex index(
+      String groupName,
+      Object source,
+      Supplier<OpenApiSpecificationIndex> indexer) {
+    GroupVariants group = group(groupName, source);
+    OpenApiSpecificationIndex index = group.index;
+    if (index == null) {
+      synchronized (group) {
+        if (group.index == null) {
+          group.index = indexer.get();
+        }
+        index = group.index;
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Returns the digest of the unfiltered specification of the group, computing it once per source. Unlike the
+   * rendered specifications it is kept with the cache disabled too, entity tags are derived from it.
+   *
+   * @param groupName the documentation group
+   * @param source    the documentation or the snapshot currently stored for the group
+   * @param digester  digests the specification
+   * @return the digest
+   */
+  public String contentDigest(
+      String groupName,
+      Object source,
+      Supplier<String> digester) {
+    GroupVariants group = group(groupName, source);
+    String digest = group.contentDigest;
+    if (digest == null) {
+      synchronized (group) {
+        if (group.contentDigest == null) {
+          group.contentDigest = digester.get();
+        }
+        digest = group.contentDigest;
+      }
+    }
+    return digest;
+  }
+
+  private GroupVariants group(String groupName, Object source) {
+    return groups.compute(
+        groupName,
+        (key, existing) -> existing != null && existing.source == source
+                           ? existing
+                           : new GroupVariants(source, maxVariantsPerGroup));
+  }
+
+  public int getMaxVariantsPerGroup() {
+    return maxVariantsPerGroup;
+  }
+
+  public void clear() {
+    groups.clear();
+  }
+
+  private static class GroupVariants {
+    private final Object source;
+    private final LeastRecentlyUsedCache<String, RenderedSpecification> rendered;
+    private volatile OpenApiSpecificationIndex index;
+    private volatile String contentDigest;
+
+    GroupVariants(Object source, int maxVariants) {
+      this.source = source;
+      this.rendered = new LeastRecentlyUsedCache<>(maxVariants);
+    }
+  }
+}
@@ -15,6 +15,18 @@ public class SpecGeneration {
   private static final Logger LOGGER = getLogger(SpecGeneration.class);
   public static final String OPEN_API_SPECIFICATION_PATH
       = "${springfox.documentation.open-api.v3.path:/v3/api-docs}";
+  public static final String OPEN_API_CACHE_ENABLED
+      = "${springfox.documentation.open-api.v3.cache.enabled:true}";
+  public static final String OPEN_API_CACHE_MAX_VARIANTS
+      = "${springfox.documentation.open-api.v3.cache.max-variants-per-group:16}";
+  public static final String OPEN_API_COMPRESSION_ENABLED
+      = "${springfox.documentation.open-api.v3.cache.compression.enabled:true}";
+  public static final String OPEN_API_SNAPSHOT_LOCATION
+      = "${springfox.documentation.open-api.v3.snapshot.location:classpath:META-INF/springfox/snapshot/}";
+  public static final String OPEN_API_SNAPSHOT_DUMP_DIRECTORY
+      = "${springfox.documentation.open-api.v3.snapshot.dump-directory:}";
+  protected static final String FORWARDED_PREFIX_HEADER = "X-Forwarded-Prefix";
+  protected static final String RETRY_AFTER_SECONDS = "5";
   protected static final String HAL_MEDIA_TYPE = "application/hal+json";
 
   private SpecGeneration() {
@@ -0,0 +1,14 @@
+package springfox.documentation.oas.web;
+
+/**
+ * Encodes a rendered specification for a content coding (gzip, br, ...). Register an implementation as a bean to
+ * make it available to the open api controllers; encoders are preferred in their {@code @Order}.
+ */
+public interface SpecificationEncoder {
+  /**
+   * @return the content coding token as used in the Accept-Encoding and Content-Encoding headers
+   */
+  String encoding();
+
+  byte[] encode(byte[] specification);
+}
@@ -0,0 +1,73 @@
+package springfox.documentation.oas.web;
+
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Picks the {@link SpecificationEncoder} to use for a request from its Accept-Encoding header.
+ */
+public class SpecificationEncoders {
+  private final List<SpecificationEncoder> encoders;
+
+  public SpecificationEncoders(List<SpecificationEncoder> encoders) {
+    this.encoders = new ArrayList<>(encoders);
+  }
+
+  public boolean isEmpty() {
+    return encoders.isEmpty();
+  }
+
+  /**
+   * @param acceptEncoding the Accept-Encoding header values
+   * @return the encoder with the highest quality value, the earliest registered one on ties; empty for identity
+   */
+  public Optional<SpecificationEncoder> negotiate(List<String> acceptEncoding) {
+    SpecificationEncoder best = null;
+    double bestQuality = 0;
+    for (SpecificationEncoder each : encoders) {
+      double quality = quality(acceptEncoding, each.encoding());
+      if (quality > bestQuality) {
+        best = each;
+        bestQuality = quality;
+      }
+    }
+    return Optional.ofNullable(best);
+  }
+
+  private static double quality(List<String> acceptEncoding, String encoding) {
+    double wildcard = 0;
+    for (String header : acceptEncoding) {
+      for (String coding : StringUtils.tokenizeToStringArray(header, ",")) {
+        String[] parts = StringUtils.tokenizeToStringArray(coding, ";");
+        if (parts.length == 0) {
+          continue;
+        }
+        String name = parts[0].toLowerCase(Locale.ENGLISH);
+        double quality = parts.length > 1 ? qualityValue(parts[1]) : 1;
+        if (name.equals(encoding)) {
+          return quality;
+        }
+        if ("*".equals(name)) {
+          wildcard = quality;
+        }
+      }
+    }
+    return wildcard;
+  }
+
+  private static double qualityValue(String parameter) {
+    int equals = parameter.indexOf('=');
+    if (equals < 0 || !"q".equalsIgnoreCase(parameter.substring(0, equals).trim())) {
+      return 1;
+    }
+    try {
+      return Double.parseDouble(parameter.substring(equals + 1).trim());
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+}
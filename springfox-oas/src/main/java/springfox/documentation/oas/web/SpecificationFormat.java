@@ -0,0 +1,25 @@
+package springfox.documentation.oas.web;
+
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * Writes a rendered specification in another representation than the compact JSON it is rendered to (YAML,
+ * Smile, ...). Register an implementation as a bean to make it available to the open api controllers; formats are
+ * matched against the Accept header in their {@code @Order}, or picked by name with the {@code format} parameter.
+ */
+public interface SpecificationFormat {
+  /**
+   * @return the name used with the {@code format} request parameter and in entity tags
+   */
+  String name();
+
+  /**
+   * @return the media types the format is served for, the one asked for is used as the response content type, the
+   * first one when any of them would do
+   */
+  List<MediaType> mediaTypes();
+
+  byte[] format(byte[] json);
+}
@@ -0,0 +1,123 @@
+package springfox.documentation.oas.web;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static springfox.documentation.oas.web.SpecGeneration.HAL_MEDIA_TYPE;
+
+/**
+ * Picks the {@link SpecificationFormat} to use for a request from its {@code format} parameter or Accept header, and
+ * the media type to write it as. The compact JSON the specification is rendered to is always available, and preferred
+ * for any JSON media type.
+ */
+public class SpecificationFormats {
+  public static final SpecificationFormat JSON = new Json();
+
+  private final List<SpecificationFormat> formats;
+
+  public SpecificationFormats(List<SpecificationFormat> formats) {
+    this.formats = new ArrayList<>();
+    this.formats.add(JSON);
+    this.formats.addAll(formats);
+  }
+
+  /**
+   * @param name   the {@code format} request parameter, if any
+   * @param accept the Accept header values
+   * @return the format to write and its media type; empty when none of the available ones is acceptable
+   */
+  public Optional<Negotiated> negotiate(String name, List<String> accept) {
+    if (name != null) {
+      return formats.stream()
+          .filter(each -> each.name().equalsIgnoreCase(name))
+          .findFirst()
+          .map(Negotiated::new);
+    }
+    List<MediaType> accepted;
+    try {
+      accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+    } catch (InvalidMediaTypeException e) {
+      return Optional.of(new Negotiated(JSON));
+    }
+    if (accepted.isEmpty()) {
+      return Optional.of(new Negotiated(JSON));
+    }
+    MediaType.sortBySpecificityAndQuality(accepted);
+    for (MediaType each : accepted) {
+      if (each.getQualityValue() <= 0) {
+        continue;
+      }
+      for (SpecificationFormat format : formats) {
+        Optional<MediaType> matched = format.mediaTypes().stream()
+            .filter(each::includes)
+            .findFirst();
+        if (matched.isPresent()) {
+          return Optional.of(new Negotiated(format, matched.get()));
+        }
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * A format together with the media type it is written as: the one of its media types that was asked for, or its
+   * first one when any of them would do.
+   */
+  public static class Negotiated {
+    private final SpecificationFormat format;
+    private final MediaType mediaType;
+
+    Negotiated(SpecificationFormat format) {
+      this(format, format.mediaTypes().get(0));
+    }
+
+    Negotiated(SpecificationFormat format, MediaType mediaType) {
+      this.format = format;
+      this.mediaType = mediaType;
+    }
+
+    public SpecificationFormat getFormat() {
+      return format;
+    }
+
+    public MediaType getMediaType() {
+      return mediaType;
+    }
+
+    /**
+     * @return the format name, qualified with the media type when it is not the first one of the format, so that
+     * entity tags tell the representations apart
+     */
+    public String getRepresentation() {
+      return mediaType.equals(format.mediaTypes().get(0)) ? format.name() : format.name() + "~" + mediaType;
+    }
+  }
+
+  private static class Json implements SpecificationFormat {
+    private final List<MediaType> mediaTypes = Collections.unmodifiableList(Arrays.asList(
+        MediaType.APPLICATION_JSON,
+        MediaType.valueOf(HAL_MEDIA_TYPE),
+        MediaType.valueOf("application/vnd.oai.openapi+json")));
+
+    @Override
+    public String name() {
+      return "json";
+    }
+
+    @Override
+    public List<MediaType> mediaTypes() {
+      return mediaTypes;
+    }
+
+    @Override
+    public byte[] format(byte[] json) {
+      return json;
+    }
+  }
+}
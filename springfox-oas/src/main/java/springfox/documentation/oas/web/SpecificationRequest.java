@@ -0,0 +1,79 @@
+package springfox.documentation.oas.web;
+
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.util.List;
+
+/**
+ * A request for the open api specification, as seen by the {@link SpecificationResponder}: its headers and the
+ * transformation filters to run for it.
+ *
+ * @param <R> the request type of the web framework
+ */
+abstract class SpecificationRequest<R> {
+  private final R request;
+  private final List<? extends OpenApiTransformationFilter<R>> filters;
+
+  SpecificationRequest(R request, List<? extends OpenApiTransformationFilter<R>> filters) {
+    this.request = request;
+    this.filters = filters;
+  }
+
+  /**
+   * @param name the header name
+   * @return the values of the header, empty when it is missing
+   */
+  abstract List<String> headers(String name);
+
+  /**
+   * The parts of the request the built in transformation filters depend on: the server url and the forwarded prefix.
+   */
+  abstract String variant();
+
+  /**
+   * @param filter a transformation filter
+   * @return whether it is one of the built in filters, which take nothing from the request but the server url and the
+   * forwarded prefix
+   */
+  abstract boolean isBuiltIn(OpenApiTransformationFilter<R> filter);
+
+  /**
+   * @param filter a transformation filter
+   * @return the url of the server the filter infers for the request; null unless it is the built in one that does
+   */
+  abstract String inferredServerUrl(OpenApiTransformationFilter<R> filter);
+
+  String header(String name) {
+    List<String> values = headers(name);
+    return values.isEmpty() ? null : values.get(0);
+  }
+
+  OpenAPI transform(OpenAPI specification) {
+    OpenApiTransformationContext<R> context = new OpenApiTransformationContext<>(specification, request);
+    for (OpenApiTransformationFilter<R> each : filters) {
+      context = context.next(each.transform(context));
+    }
+    return context.getSpecification();
+  }
+
+  /**
+   * Whether the transformation filters are the built in ones. Rendered specifications are then shared by all server
+   * urls, which are written into them per request.
+   */
+  boolean hasBuiltInFilters() {
+    return filters.stream().allMatch(this::isBuiltIn);
+  }
+
+  /**
+   * The url of the server inferred for the request by the built in filter; null without it.
+   */
+  String inferredServerUrl() {
+    for (OpenApiTransformationFilter<R> each : filters) {
+      String serverUrl = inferredServerUrl(each);
+      if (serverUrl != null) {
+        return serverUrl;
+      }
+    }
+    return null;
+  }
+}
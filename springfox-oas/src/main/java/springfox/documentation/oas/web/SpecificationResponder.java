@@ -0,0 +1,195 @@
+package springfox.documentation.oas.web;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import springfox.documentation.oas.mappers.ServiceModelToOpenApiMapper;
+import springfox.documentation.service.Documentation;
+import springfox.documentation.spring.web.DocumentationCache;
+import springfox.documentation.spring.web.DocumentationStatus;
+import springfox.documentation.spring.web.json.JsonSerializer;
+import springfox.documentation.spring.web.plugins.Docket;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static springfox.documentation.oas.web.SpecGeneration.FORWARDED_PREFIX_HEADER;
+import static springfox.documentation.oas.web.SpecGeneration.RETRY_AFTER_SECONDS;
+import static springfox.documentation.spring.web.EntityTags.digest;
+import static springfox.documentation.spring.web.EntityTags.entityTag;
+import static springfox.documentation.spring.web.EntityTags.matches;
+
+/**
+ * Answers requests for the open api specification the same way for every web framework: negotiates the format,
+ * finds the documentation of the group, selects the requested operations, and serves the rendered specification with
+ * its entity tag. The controllers only adapt their request and write the response.
+ * <p>
+ * Rendered specifications are only cached, and entity tags only given, while the transformation filters are the
+ * built in ones: a custom filter may depend on anything in the request, its output is rendered for every request.
+ * Entity tags are derived from the content of the group and the parts of the request the built in filters depend on,
+ * so that every instance of the application tags the same specification alike, across restarts too.
+ */
+class SpecificationResponder {
+  private final DocumentationCache documentationCache;
+  private final ServiceModelToOpenApiMapper mapper;
+  private final JsonSerializer jsonSerializer;
+  private final RenderedSpecificationCache renderedSpecifications;
+  private final SpecificationEncoders encoders;
+  private final SpecificationFormats formats;
+  private final OpenApiDocumentationSnapshots snapshots;
+  private final boolean cacheEnabled;
+
+  @SuppressWarnings("ParameterNumber")
+  SpecificationResponder(
+      DocumentationCache documentationCache,
+      ServiceModelToOpenApiMapper mapper,
+      JsonSerializer jsonSerializer,
+      RenderedSpecificationCache renderedSpecifications,
+      SpecificationEncoders encoders,
+      SpecificationFormats formats,
+      OpenApiDocumentationSnapshots snapshots,
+      boolean cacheEnabled) {
+    this.documentationCache = documentationCache;
+    this.mapper = mapper;
+    this.jsonSerializer = jsonSerializer;
+    this.renderedSpecifications = renderedSpecifications;
+    this.encoders = encoders;
+    this.formats = formats;
+    this.snapshots = snapshots;
+    this.cacheEnabled = cacheEnabled;
+  }
+
+  /**
+   * @param group      the {@code group} request parameter
+   * @param tag        the {@code tag} request parameter
+   * @param pathPrefix the {@code pathPrefix} request parameter
+   * @param format     the {@code format} request parameter
+   * @param request    the request
+   * @return the response to write
+   */
+  SpecificationResponse respond(
+      String group,
+      String tag,
+      String pathPrefix,
+      String format,
+      SpecificationRequest<?> request) {
+    Optional<SpecificationFormats.Negotiated> negotiated = formats.negotiate(
+        StringUtils.hasText(format) ? format : null,
+        request.headers(HttpHeaders.ACCEPT));
+    if (!negotiated.isPresent()) {
+      return SpecificationResponse.status(HttpStatus.NOT_ACCEPTABLE);
+    }
+    SpecificationFormat specificationFormat = negotiated.get().getFormat();
+    MediaType contentType = negotiated.get().getMediaType();
+    String representation = negotiated.get().getRepresentation();
+    String groupName = Optional.ofNullable(group).orElse(Docket.DEFAULT_GROUP_NAME);
+    DocumentationCache.Snapshot cached = documentationCache.snapshotOf(groupName);
+    Documentation documentation = cached.documentationByGroup(groupName);
+    byte[] snapshot = documentation == null ? snapshots.specification(groupName) : null;
+    if (documentation == null && snapshot == null) {
+      DocumentationStatus status = cached.status(groupName);
+      if (status != null && status.isInProgress()) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        return SpecificationResponse.status(HttpStatus.SERVICE_UNAVAILABLE, headers);
+      }
+      return SpecificationResponse.status(HttpStatus.NOT_FOUND);
+    }
+    Object source = documentation != null ? documentation : snapshot;
+    Supplier<OpenAPI> mapped = documentation != null
+                               ? () -> mapper.mapDocumentation(documentation)
+                               : () -> snapshots.read(snapshot);
+    String selectedTag = OpenApiSpecificationIndex.normalizedTag(tag);
+    String selectedPathPrefix = OpenApiSpecificationIndex.normalizedPathPrefix(pathPrefix);
+    Supplier<OpenAPI> unfiltered;
+    if (selectedTag != null || selectedPathPrefix != null) {
+      OpenApiSpecificationIndex index = index(groupName, source, mapped);
+      if (!index.selects(selectedTag, selectedPathPrefix)) {
+        return SpecificationResponse.status(HttpStatus.NOT_FOUND);
+      }
+      unfiltered = () -> index.select(selectedTag, selectedPathPrefix);
+    } else {
+      unfiltered = mapped;
+    }
+    if (!request.hasBuiltInFilters()) {
+      return rendered(new HttpHeaders(), contentType, specificationFormat, request.transform(unfiltered.get()));
+    }
+    String selection = OpenApiSpecificationIndex.selection(selectedTag, selectedPathPrefix);
+    String variant = request.variant() + selection;
+    String content = renderedSpecifications.contentDigest(
+        groupName,
+        source,
+        () -> digest(documentation != null ? jsonSerializer.toJsonBytes(mapped.get()) : snapshot));
+    Optional<SpecificationEncoder> encoder = cacheEnabled
+                                             ? encoders.negotiate(request.headers(HttpHeaders.ACCEPT_ENCODING))
+                                             : Optional.empty();
+    String entityTag = encoder
+        .map(e -> entityTag(content, digest(variant), representation, e.encoding()))
+        .orElse(entityTag(content, digest(variant), representation));
+    HttpHeaders headers = new HttpHeaders();
+    headers.setETag(entityTag);
+    headers.setVary(encoders.isEmpty() || !cacheEnabled
+                    ? Collections.singletonList(HttpHeaders.ACCEPT)
+                    : Arrays.asList(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING));
+    if (matches(request.headers(HttpHeaders.IF_NONE_MATCH), entityTag)) {
+      return SpecificationResponse.status(HttpStatus.NOT_MODIFIED, headers);
+    }
+    if (!cacheEnabled) {
+      return rendered(headers, contentType, specificationFormat, request.transform(unfiltered.get()));
+    }
+    String serverUrl = request.inferredServerUrl();
+    String prefix = request.header(FORWARDED_PREFIX_HEADER);
+    RenderedSpecification shared = renderedSpecifications.get(
+        groupName,
+        source,
+        prefix == null ? selection : "|" + prefix + selection,
+        () -> RenderedSpecification.withServerUrlSlot(
+            request.transform(unfiltered.get()),
+            serverUrl,
+            jsonSerializer,
+            renderedSpecifications.getMaxVariantsPerGroup()));
+    headers.setContentType(contentType);
+    if (!encoder.isPresent() && specificationFormat == SpecificationFormats.JSON && shared.hasServerUrlSlot()) {
+      return SpecificationResponse.segments(headers, shared.segments(serverUrl));
+    }
+    RenderedSpecification rendered = shared.forServerUrl(serverUrl);
+    if (encoder.isPresent()) {
+      headers.set(HttpHeaders.CONTENT_ENCODING, encoder.get().encoding());
+      return SpecificationResponse.body(headers, rendered.encoded(specificationFormat, encoder.get()));
+    }
+    return SpecificationResponse.body(headers, rendered.formatted(specificationFormat));
+  }
+
+  /**
+   * Answers with a specification rendered for this request only, streamed when it is served as JSON.
+   */
+  private SpecificationResponse rendered(
+      HttpHeaders headers,
+      MediaType contentType,
+      SpecificationFormat specificationFormat,
+      OpenAPI specification) {
+    headers.setContentType(contentType);
+    if (specificationFormat != SpecificationFormats.JSON) {
+      return SpecificationResponse.body(headers, specificationFormat.format(jsonSerializer.toJsonBytes(specification)));
+    }
+    return SpecificationResponse.streamed(headers, specification);
+  }
+
+  /**
+   * The index the operations selected by tag and path prefix are assembled from. With the cache enabled it is built
+   * once per documentation.
+   */
+  private OpenApiSpecificationIndex index(String groupName, Object source, Supplier<OpenAPI> unfiltered) {
+    if (!cacheEnabled) {
+      return new OpenApiSpecificationIndex(unfiltered.get(), jsonSerializer);
+    }
+    return renderedSpecifications.index(
+        groupName,
+        source,
+        () -> new OpenApiSpecificationIndex(unfiltered.get(), jsonSerializer));
+  }
+}
@@ -0,0 +1,83 @@
+package springfox.documentation.oas.web;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * What the {@link SpecificationResponder} answers a request with, for the controller to write. The body is either
+ * rendered bytes, the segments of a specification shared by several server urls, or a specification to serialize
+ * straight to the response; there is none unless the status is OK.
+ */
+class SpecificationResponse {
+  private final HttpStatus status;
+  private final HttpHeaders headers;
+  private final byte[] body;
+  private final List<ByteBuffer> segments;
+  private final OpenAPI specification;
+
+  private SpecificationResponse(
+      HttpStatus status,
+      HttpHeaders headers,
+      byte[] body,
+      List<ByteBuffer> segments,
+      OpenAPI specification) {
+    this.status = status;
+    this.headers = headers;
+    this.body = body;
+    this.segments = segments;
+    this.specification = specification;
+  }
+
+  static SpecificationResponse status(HttpStatus status) {
+    return status(status, new HttpHeaders());
+  }
+
+  static SpecificationResponse status(HttpStatus status, HttpHeaders headers) {
+    return new SpecificationResponse(status, headers, null, null, null);
+  }
+
+  static SpecificationResponse body(HttpHeaders headers, byte[] body) {
+    return new SpecificationResponse(HttpStatus.OK, headers, body, null, null);
+  }
+
+  static SpecificationResponse segments(HttpHeaders headers, List<ByteBuffer> segments) {
+    return new SpecificationResponse(HttpStatus.OK, headers, null, segments, null);
+  }
+
+  static SpecificationResponse streamed(HttpHeaders headers, OpenAPI specification) {
+    return new SpecificationResponse(HttpStatus.OK, headers, null, null, specification);
+  }
+
+  HttpStatus getStatus() {
+    return status;
+  }
+
+  HttpHeaders getHeaders() {
+    return headers;
+  }
+
+  /**
+   * @return the rendered bytes, or null
+   */
+  byte[] getBody() {
+    return body;
+  }
+
+  /**
+   * @return the segments to write in order, or null
+   */
+  List<ByteBuffer> getSegments() {
+    return segments;
+  }
+
+  /**
+   * @return the specification to serialize as JSON, or null
+   */
+  OpenAPI getSpecification() {
+    return specification;
+  }
+}
@@ -1,6 +1,7 @@
 package springfox.documentation.oas.web;
 
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.servers.Server;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
@@ -15,7 +16,6 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 
 import static springfox.documentation.oas.web.SpecGeneration.OPEN_API_SPECIFICATION_PATH;
-import static springfox.documentation.oas.web.SpecGeneration.inferredServer;
 
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class WebFluxBasePathAndHostnameTransformationFilter implements WebFluxOpenApiTransformationFilter {
@@ -28,13 +28,20 @@ public class WebFluxBasePathAndHostnameTransformationFilter implements WebFluxOp
   @Override
   public OpenAPI transform(OpenApiTransformationContext<ServerHttpRequest> context) {
     OpenAPI openApi = context.getSpecification();
-    context.request().ifPresent(request -> {
-      String requestUrl = decode(new ForwardedHeaderTransformer().apply(request).getURI().toString());
-      openApi.servers(Collections.singletonList(inferredServer(requestPrefix, requestUrl)));
-    });
+    context.request().ifPresent(request ->
+        openApi.servers(Collections.singletonList(inferredServer(request))));
     return openApi;
   }
 
+  /**
+   * @param request the request for the specification
+   * @return the server the specification is served from, as seen by the client
+   */
+  public Server inferredServer(ServerHttpRequest request) {
+    String requestUrl = decode(new ForwardedHeaderTransformer().apply(request).getURI().toString());
+    return SpecGeneration.inferredServer(requestPrefix, requestUrl);
+  }
+
   protected String decode(String requestURI) {
     try {
       return URLDecoder.decode(requestURI, StandardCharsets.UTF_8.toString());
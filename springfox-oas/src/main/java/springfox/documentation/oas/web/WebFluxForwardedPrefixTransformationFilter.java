@@ -0,0 +1,41 @@
+package springfox.documentation.oas.web;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import springfox.documentation.spi.DocumentationType;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static springfox.documentation.oas.web.SpecGeneration.FORWARDED_PREFIX_HEADER;
+
+/**
+ * Prefixes the paths with the X-Forwarded-Prefix of the request, for specifications served through a gateway.
+ */
+public class WebFluxForwardedPrefixTransformationFilter implements WebFluxOpenApiTransformationFilter {
+  @Override
+  public OpenAPI transform(OpenApiTransformationContext<ServerHttpRequest> context) {
+    OpenAPI specification = context.getSpecification();
+    context.request().ifPresent(req -> {
+      String prefix = req.getHeaders().getFirst(FORWARDED_PREFIX_HEADER);
+      if (Objects.nonNull(prefix)) {
+        Paths ps = specification.getPaths();
+        Map<String, PathItem> pathItemMap = specification.getPaths().entrySet().stream()
+            .collect(Collectors.toMap(item -> prefix + item.getKey(), Map.Entry::getValue));
+        Paths paths = new Paths();
+        paths.putAll(pathItemMap);
+        paths.setExtensions(ps.getExtensions());
+        specification.setPaths(paths);
+      }
+    });
+    return specification;
+  }
+
+  @Override
+  public boolean supports(DocumentationType documentationType) {
+    return true;
+  }
+}
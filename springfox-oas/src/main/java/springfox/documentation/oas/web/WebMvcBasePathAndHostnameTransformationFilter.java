@@ -1,6 +1,7 @@
 package springfox.documentation.oas.web;
 
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.servers.Server;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
@@ -14,7 +15,6 @@ import java.util.Collections;
 
 import static org.slf4j.LoggerFactory.getLogger;
 import static springfox.documentation.oas.web.SpecGeneration.OPEN_API_SPECIFICATION_PATH;
-import static springfox.documentation.oas.web.SpecGeneration.inferredServer;
 
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class WebMvcBasePathAndHostnameTransformationFilter implements WebMvcOpenApiTransformationFilter {
@@ -28,14 +28,21 @@ public class WebMvcBasePathAndHostnameTransformationFilter implements WebMvcOpen
   @Override
   public OpenAPI transform(OpenApiTransformationContext<HttpServletRequest> context) {
     OpenAPI openApi = context.getSpecification();
-    context.request().ifPresent(servletRequest -> {
-      ForwardedHeaderExtractingRequest filter
-          = new ForwardedHeaderExtractingRequest(servletRequest, new UrlPathHelper());
-      openApi.servers(Collections.singletonList(inferredServer(requestPrefix, filter.adjustedRequestURL())));
-    });
+    context.request().ifPresent(servletRequest ->
+        openApi.servers(Collections.singletonList(inferredServer(servletRequest))));
     return openApi;
   }
 
+  /**
+   * @param servletRequest the request for the specification
+   * @return the server the specification is served from, as seen by the client
+   */
+  public Server inferredServer(HttpServletRequest servletRequest) {
+    ForwardedHeaderExtractingRequest filter
+        = new ForwardedHeaderExtractingRequest(servletRequest, new UrlPathHelper());
+    return SpecGeneration.inferredServer(requestPrefix, filter.adjustedRequestURL());
+  }
+
   @Override
   public boolean supports(DocumentationType delimiter) {
     return delimiter == DocumentationType.OAS_30;
@@ -19,28 +19,377 @@
 
 package springfox.documentation.spring.web;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import springfox.documentation.service.Documentation;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
+/**
+ * Holds the documentation of every group as an immutable {@link Snapshot}. Every change publishes a new snapshot,
+ * with a higher version, in a single reference swap, so readers never lock and never see a partial update.
+ */
 public class DocumentationCache {
-  private Map<String, Documentation> documentationLookup = new LinkedHashMap<>();
+  private static final Logger LOGGER = LoggerFactory.getLogger(DocumentationCache.class);
+  private final AtomicReference<Snapshot> current = new AtomicReference<>(new Snapshot());
 
   public void addDocumentation(Documentation documentation) {
-    documentationLookup.put(documentation.getGroupName(), documentation);
+    update(changes -> changes.add(documentation));
+  }
+
+  /**
+   * Registers a group restored from a {@link DocumentationSnapshotStore}; it is ready but has no scanned
+   * documentation, its specification is served from the snapshot.
+   *
+   * @param groupName         the documentation group
+   * @param documentationType the documentation type, in the format of {@link Documentation#getDocumentationType()}
+   */
+  public void addSnapshot(String groupName, String documentationType) {
+    update(changes -> {
+      changes.groupTypes.put(groupName, documentationType);
+      changes.pending.remove(groupName);
+      changes.statuses.put(groupName, new DocumentationStatus(groupName, DocumentationStatus.State.READY));
+    });
+  }
+
+  /**
+   * Records that the documentation of the group could not be scanned. The group stays listed, with a failed status;
+   * the cause is logged but not kept.
+   *
+   * @param groupName         the documentation group
+   * @param documentationType the documentation type, in the format of {@link Documentation#getDocumentationType()}
+   * @param error             the cause of the failure
+   */
+  public void addFailure(String groupName, String documentationType, Throwable error) {
+    update(changes -> {
+      changes.groupTypes.put(groupName, documentationType);
+      changes.fail(groupName, error);
+    });
+  }
+
+  /**
+   * Registers a group whose documentation is only scanned when it is first requested.
+   *
+   * @param groupName         the documentation group
+   * @param documentationType the documentation type, in the format of {@link Documentation#getDocumentationType()}
+   * @param scan              scans the group
+   */
+  public void addPendingDocumentation(
+      String groupName,
+      String documentationType,
+      Callable<Documentation> scan) {
+    addPendingDocumentation(groupName, documentationType, scan, true);
+  }
+
+  /**
+   * Registers a group whose documentation is scanned later, either by {@link #scanPendingDocumentation(String)}
+   * or, if scanOnRequest is set, when it is first requested.
+   *
+   * @param groupName         the documentation group
+   * @param documentationType the documentation type, in the format of {@link Documentation#getDocumentationType()}
+   * @param scan              scans the group
+   * @param scanOnRequest     whether {@link #documentationByGroup(String)} scans the group when it is still pending;
+   *                          a scan on request that fails is tried again on the next request
+   */
+  public void addPendingDocumentation(
+      String groupName,
+      String documentationType,
+      Callable<Documentation> scan,
+      boolean scanOnRequest) {
+    PendingDocumentation pending = new PendingDocumentation(scan, scanOnRequest);
+    update(changes -> {
+      changes.groupTypes.put(groupName, documentationType);
+      changes.pending.put(groupName, pending);
+      changes.statuses.put(groupName, new DocumentationStatus(groupName, DocumentationStatus.State.PENDING));
+    });
+  }
+
+  /**
+   * @return the current snapshot of the cache
+   */
+  public Snapshot snapshot() {
+    return current.get();
+  }
+
+  /**
+   * Returns the current snapshot, after scanning the group first if it is pending and may be scanned on request.
+   * Read the documentation and the status of the group from the same snapshot so that they match.
+   */
+  public Snapshot snapshotOf(String groupName) {
+    documentationByGroup(groupName);
+    return current.get();
   }
 
+  /**
+   * Returns the documentation of the group, scanning it first if it is pending and may be scanned on request.
+   * Concurrent callers asking for the same pending group wait for a single scan.
+   */
   public Documentation documentationByGroup(String groupName) {
-    return documentationLookup.get(groupName);
+    Snapshot snapshot = current.get();
+    Documentation documentation = snapshot.documentationByGroup(groupName);
+    PendingDocumentation pending = snapshot.pending.get(groupName);
+    if (documentation != null || pending == null || !pending.scanOnRequest) {
+      return documentation;
+    }
+    return scan(groupName, pending);
   }
 
+  /**
+   * Scans the group if it is still pending, waiting for a scan already in progress otherwise.
+   */
+  public void scanPendingDocumentation(String groupName) {
+    PendingDocumentation pending = current.get().pending.get(groupName);
+    if (pending != null) {
+      scan(groupName, pending);
+    }
+  }
+
+  private Documentation scan(String groupName, PendingDocumentation pending) {
+    update(changes -> {
+      if (changes.pending.get(groupName) == pending) {
+        changes.statuses.put(groupName, new DocumentationStatus(groupName, DocumentationStatus.State.SCANNING));
+      }
+    });
+    pending.task.run();
+    Documentation documentation = null;
+    Throwable error = null;
+    try {
+      documentation = pending.task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    } catch (ExecutionException e) {
+      error = e.getCause();
+    }
+    Documentation scanned = documentation;
+    Throwable failure = error;
+    return update(changes -> {
+      if (changes.pending.get(groupName) == pending) {
+        if (scanned != null) {
+          changes.add(scanned);
+        } else {
+          changes.fail(groupName, failure);
+          if (pending.scanOnRequest) {
+            changes.pending.put(groupName, pending.retry());
+          }
+        }
+      }
+    }).documentationByGroup(groupName);
+  }
+
+  /**
+   * @return the documentation scanned so far, by group
+   */
   public Map<String, Documentation> all() {
-    return Collections.unmodifiableMap(documentationLookup);
+    return current.get().all();
+  }
+
+  /**
+   * @return the documentation type of every known group, scanned, pending or failed, by group
+   */
+  public Map<String, String> groups() {
+    return current.get().groups();
+  }
+
+  /**
+   * @return the groups whose documentation is yet to be scanned
+   */
+  public List<String> pendingGroups() {
+    return new ArrayList<>(current.get().pending.keySet());
+  }
+
+  /**
+   * @param groupName the documentation group
+   * @return the scan status of the group, or null if the group is unknown
+   */
+  public DocumentationStatus status(String groupName) {
+    return current.get().status(groupName);
+  }
+
+  public List<DocumentationStatus> statuses() {
+    return current.get().statuses();
+  }
+
+  /**
+   * @return the version of the current snapshot, it increases with every change
+   */
+  public long getVersion() {
+    return current.get().getVersion();
   }
 
   public void clear() {
-    documentationLookup.clear();
+    update(Changes::clear);
+  }
+
+  /**
+   * Applies the changes to a copy of the current snapshot and publishes it; writers are serialized, readers are not.
+   */
+  private synchronized Snapshot update(Consumer<Changes> change) {
+    Changes changes = new Changes(current.get());
+    change.accept(changes);
+    Snapshot next = changes.snapshot();
+    current.set(next);
+    return next;
+  }
+
+  /**
+   * An immutable view of the cache at one point in time.
+   */
+  public static final class Snapshot {
+    private final long version;
+    private final long timestamp;
+    private final Map<String, Documentation> documentation;
+    private final Map<String, String> groupTypes;
+    private final Map<String, PendingDocumentation> pending;
+    private final Map<String, DocumentationStatus> statuses;
+
+    Snapshot() {
+      this(
+          0,
+          System.currentTimeMillis(),
+          Collections.emptyMap(),
+          Collections.emptyMap(),
+          Collections.emptyMap(),
+          Collections.emptyMap());
+    }
+
+    @SuppressWarnings("ParameterNumber")
+    Snapshot(
+        long version,
+        long timestamp,
+        Map<String, Documentation> documentation,
+        Map<String, String> groupTypes,
+        Map<String, PendingDocumentation> pending,
+        Map<String, DocumentationStatus> statuses) {
+      this.version = version;
+      this.timestamp = timestamp;
+      this.documentation = Collections.unmodifiableMap(documentation);
+      this.groupTypes = Collections.unmodifiableMap(groupTypes);
+      this.pending = Collections.unmodifiableMap(pending);
+      this.statuses = Collections.unmodifiableMap(statuses);
+    }
+
+    /**
+     * @return a number that increases with every change of the cache
+     */
+    public long getVersion() {
+      return version;
+    }
+
+    /**
+     * @return when the snapshot was published, in milliseconds since the epoch
+     */
+    public long getTimestamp() {
+      return timestamp;
+    }
+
+    /**
+     * @param groupName the documentation group
+     * @return the scanned documentation of the group, or null
+     */
+    public Documentation documentationByGroup(String groupName) {
+      return documentation.get(groupName);
+    }
+
+    /**
+     * @param groupName the documentation group
+     * @return the scan status of the group, or null if the group is unknown
+     */
+    public DocumentationStatus status(String groupName) {
+      return statuses.get(groupName);
+    }
+
+    public List<DocumentationStatus> statuses() {
+      return new ArrayList<>(statuses.values());
+    }
+
+    /**
+     * @return the documentation scanned so far, by group
+     */
+    public Map<String, Documentation> all() {
+      return documentation;
+    }
+
+    /**
+     * @return the documentation type of every known group, scanned, pending or failed, by group
+     */
+    public Map<String, String> groups() {
+      return groupTypes;
+    }
+  }
+
+  private static class Changes {
+    private final long version;
+    private final Map<String, Documentation> documentation;
+    private final Map<String, String> groupTypes;
+    private final Map<String, PendingDocumentation> pending;
+    private final Map<String, DocumentationStatus> statuses;
+
+    Changes(Snapshot snapshot) {
+      this.version = snapshot.version + 1;
+      this.documentation = new LinkedHashMap<>(snapshot.documentation);
+      this.groupTypes = new LinkedHashMap<>(snapshot.groupTypes);
+      this.pending = new LinkedHashMap<>(snapshot.pending);
+      this.statuses = new LinkedHashMap<>(snapshot.statuses);
+    }
+
+    void add(Documentation added) {
+      String groupName = added.getGroupName();
+      documentation.put(groupName, added);
+      groupTypes.put(groupName, added.getDocumentationType());
+      pending.remove(groupName);
+      statuses.put(groupName, new DocumentationStatus(groupName, DocumentationStatus.State.READY));
+    }
+
+    void fail(String groupName, Throwable error) {
+      LOGGER.error(String.format("Unable to scan documentation context %s", groupName), error);
+      pending.remove(groupName);
+      statuses.put(groupName, new DocumentationStatus(groupName, DocumentationStatus.State.FAILED));
+    }
+
+    void clear() {
+      documentation.clear();
+      groupTypes.clear();
+      pending.clear();
+      statuses.clear();
+    }
+
+    Snapshot snapshot() {
+      return new Snapshot(
+          version,
+          System.currentTimeMillis(),
+          documentation,
+          groupTypes,
+          pending,
+          statuses);
+    }
+  }
+
+  private static class PendingDocumentation {
+    private final Callable<Documentation> scan;
+    private final FutureTask<Documentation> task;
+    private final boolean scanOnRequest;
+
+    PendingDocumentation(Callable<Documentation> scan, boolean scanOnRequest) {
+      this.scan = scan;
+      this.task = new FutureTask<>(scan);
+      this.scanOnRequest = scanOnRequest;
+    }
+
+    /**
+     * @return the same scan, not yet run, for a group whose scan failed
+     */
+    PendingDocumentation retry() {
+      return new PendingDocumentation(scan, scanOnRequest);
+    }
   }
 }
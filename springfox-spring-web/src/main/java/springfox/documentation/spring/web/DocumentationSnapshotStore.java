@@ -0,0 +1,58 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web;
+
+import springfox.documentation.service.Documentation;
+
+import java.util.Map;
+
+/**
+ * Persists scanned documentation so that later startups of the same application can serve it without scanning.
+ * <p>
+ * Snapshots are keyed by a fingerprint of the request handlers and documentation groups; a snapshot taken with a
+ * different fingerprint is stale and must not be restored.
+ */
+public interface DocumentationSnapshotStore {
+
+  /**
+   * Computing the fingerprint means going through every request handler, it is skipped when the store has nothing
+   * to restore and takes no snapshot.
+   *
+   * @return whether there may be a snapshot to restore or a snapshot is to be taken
+   */
+  boolean isActive();
+
+  /**
+   * Restores the groups of the snapshot taken with the given fingerprint.
+   *
+   * @param fingerprint fingerprint of the current request handlers and documentation groups
+   * @return the documentation type of each restored group, by group, empty if there is no matching snapshot
+   */
+  Map<String, String> restore(String fingerprint);
+
+  /**
+   * Takes a snapshot of the scanned documentation, if the store is configured to do so. It may be called again as
+   * more groups are scanned, each snapshot replaces the previous one.
+   *
+   * @param fingerprint   fingerprint of the current request handlers and documentation groups
+   * @param documentation the scanned documentation, by group
+   */
+  void store(String fingerprint, Map<String, Documentation> documentation);
+}
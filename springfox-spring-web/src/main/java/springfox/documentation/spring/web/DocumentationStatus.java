@@ -0,0 +1,36 @@
+package springfox.documentation.spring.web;
+
+/**
+ * The scan status of a documentation group.
+ */
+public class DocumentationStatus {
+  public enum State {
+    PENDING,
+    SCANNING,
+    READY,
+    FAILED
+  }
+
+  private final String groupName;
+  private final State state;
+
+  public DocumentationStatus(String groupName, State state) {
+    this.groupName = groupName;
+    this.state = state;
+  }
+
+  public String getGroupName() {
+    return groupName;
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  /**
+   * @return true while the documentation of the group is yet to be available
+   */
+  public boolean isInProgress() {
+    return state == State.PENDING || state == State.SCANNING;
+  }
+}
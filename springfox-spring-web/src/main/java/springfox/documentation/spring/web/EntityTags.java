@@ -0,0 +1,103 @@
+/*
+ *
+ *  Copyright 2017-2018 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Helpers for the strong entity tags served by the documentation endpoints.
+ */
+public class EntityTags {
+
+  private EntityTags() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * @return a token that is unique to this process, used for content that only changes when it is rebuilt
+   */
+  public static String newToken() {
+    return Long.toHexString(System.currentTimeMillis())
+        + Long.toHexString(ThreadLocalRandom.current().nextLong());
+  }
+
+  /**
+   * @param value any text
+   * @return a short hex digest of the text, used to fold request variants into an entity tag
+   */
+  public static String digest(String value) {
+    return digest(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @param content any content
+   * @return a short hex digest of the content, used as the entity tag of content that is served as is
+   */
+  public static String digest(byte[] content) {
+    return DigestUtils.md5DigestAsHex(content).substring(0, 16);
+  }
+
+  /**
+   * @param parts the parts identifying the representation
+   * @return a quoted strong entity tag
+   */
+  public static String entityTag(String... parts) {
+    return "\"" + String.join("-", parts) + "\"";
+  }
+
+  /**
+   * Weak comparison of the If-None-Match header values with the given entity tag, as required for GET requests.
+   *
+   * @param ifNoneMatch the raw If-None-Match header values
+   * @param entityTag   the quoted entity tag of the current representation
+   * @return true if the client already has the current representation
+   */
+  public static boolean matches(Iterable<String> ifNoneMatch, String entityTag) {
+    for (String header : ifNoneMatch) {
+      for (String candidate : header.split(",")) {
+        String tag = candidate.trim();
+        if ("*".equals(tag)) {
+          return true;
+        }
+        if (tag.startsWith("W/")) {
+          tag = tag.substring(2);
+        }
+        if (tag.equals(entityTag)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  public static boolean matches(Enumeration<String> ifNoneMatch, String entityTag) {
+    while (ifNoneMatch != null && ifNoneMatch.hasMoreElements()) {
+      if (matches(Collections.singletonList(ifNoneMatch.nextElement()), entityTag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
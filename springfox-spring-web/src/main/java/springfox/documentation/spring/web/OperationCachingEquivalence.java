@@ -18,6 +18,8 @@
  */
 package springfox.documentation.spring.web;
 
+import springfox.documentation.RequestHandlerKey;
+import springfox.documentation.spi.schema.GenericTypeNamingStrategy;
 import springfox.documentation.spi.service.contexts.RequestMappingContext;
 
 import java.util.Objects;
@@ -55,13 +57,25 @@ public class OperationCachingEquivalence implements BiPredicate<RequestMappingCo
         requestMappingContext.getGenericsNamingStrategy());
   }
 
+  /**
+   * A lookup key for a request mapping. Everything the equivalence looks at, and the hash, is read once when the
+   * key is created, instead of on every comparison.
+   */
   public static class Wrapper {
     private final RequestMappingContext requestMappingContext;
     private final OperationCachingEquivalence equivalence;
+    private final RequestHandlerKey key;
+    private final String requestMappingPattern;
+    private final GenericTypeNamingStrategy genericsNamingStrategy;
+    private final int hash;
 
     public Wrapper(RequestMappingContext requestMappingContext, OperationCachingEquivalence equivalence) {
       this.requestMappingContext = requestMappingContext;
       this.equivalence = equivalence;
+      this.key = requestMappingContext.key();
+      this.requestMappingPattern = requestMappingContext.getRequestMappingPattern();
+      this.genericsNamingStrategy = requestMappingContext.getGenericsNamingStrategy();
+      this.hash = Objects.hash(key, requestMappingPattern, genericsNamingStrategy);
     }
 
     @Override
@@ -73,13 +87,16 @@ public class OperationCachingEquivalence implements BiPredicate<RequestMappingCo
         return false;
       }
       Wrapper wrapper = (Wrapper) o;
-      return Objects.equals(equivalence, wrapper.equivalence)
-          && equivalence.test(requestMappingContext, wrapper.requestMappingContext);
+      return hash == wrapper.hash
+          && Objects.equals(equivalence, wrapper.equivalence)
+          && Objects.equals(key, wrapper.key)
+          && Objects.equals(requestMappingPattern, wrapper.requestMappingPattern)
+          && Objects.equals(genericsNamingStrategy, wrapper.genericsNamingStrategy);
     }
 
     @Override
     public int hashCode() {
-      return equivalence.doHash(requestMappingContext);
+      return hash;
     }
 
     public RequestMappingContext get() {
@@ -20,6 +20,7 @@
 package springfox.documentation.spring.web;
 
 import com.fasterxml.classmate.TypeResolver;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -35,6 +36,8 @@ import springfox.documentation.spring.web.json.JacksonModuleRegistrar;
 import springfox.documentation.spring.web.json.JsonSerializer;
 import springfox.documentation.spring.web.paths.DefaultPathProvider;
 import springfox.documentation.spring.web.readers.operation.HandlerMethodResolver;
+import springfox.documentation.spring.web.scanners.CachingOperationReader;
+import springfox.documentation.spring.web.scanners.OperationCacheMetrics;
 
 import java.util.List;
 
@@ -90,4 +93,13 @@ public class SpringfoxWebConfiguration {
   public PathProvider pathProvider() {
     return new DefaultPathProvider();
   }
-}
\ No newline at end of file
+
+  @Configuration
+  @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+  static class OperationCacheMetricsConfiguration {
+    @Bean
+    public OperationCacheMetrics operationCacheMetrics(CachingOperationReader operationReader) {
+      return new OperationCacheMetrics(operationReader);
+    }
+  }
+}
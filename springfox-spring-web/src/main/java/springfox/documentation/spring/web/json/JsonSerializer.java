@@ -19,9 +19,18 @@
 
 package springfox.documentation.spring.web.json;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public class JsonSerializer {
@@ -40,4 +49,78 @@ public class JsonSerializer {
       throw new RuntimeException("Could not write JSON", e);
     }
   }
+
+  public byte[] toJsonBytes(Object toSerialize) {
+    try {
+      return objectMapper.writeValueAsBytes(toSerialize);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Could not write JSON", e);
+    }
+  }
+
+  /**
+   * Writes the JSON straight to the given stream, without buffering the whole document. The stream is flushed but
+   * left open.
+   */
+  public void writeTo(Object toSerialize, OutputStream out) {
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      writeTo(toSerialize, generator);
+    } catch (IOException e) {
+      throw new RuntimeException("Could not write JSON", e);
+    }
+  }
+
+  public void writeTo(Object toSerialize, JsonGenerator generator) {
+    try {
+      objectMapper.writeValue(generator, toSerialize);
+      generator.flush();
+    } catch (IOException e) {
+      throw new RuntimeException("Could not write JSON", e);
+    }
+  }
+
+  /**
+   * Re-encodes JSON written by this serializer with another Jackson format (YAML, Smile, CBOR, ...), token by token
+   * so the property order is kept. Decimals are carried over as written instead of going through doubles.
+   *
+   * @param json    the JSON to re-encode
+   * @param factory the factory of the target format
+   * @param indent  whether to use the default pretty printer, for text formats that support it
+   * @return the re-encoded content
+   */
+  public byte[] transcode(byte[] json, JsonFactory factory, boolean indent) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+    try (JsonParser parser = objectMapper.getFactory().createParser(json);
+         JsonGenerator generator = factory.createGenerator(out)) {
+      if (indent) {
+        generator.useDefaultPrettyPrinter();
+      }
+      while (parser.nextToken() != null) {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT) {
+          generator.writeNumber(parser.getDecimalValue());
+        } else {
+          generator.copyCurrentEvent(parser);
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Could not transcode JSON", e);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Reads back JSON written by this serializer. Enums are matched on their string value, as they are written, and
+   * unknown properties are ignored.
+   */
+  public <T> T fromJson(byte[] json, Class<T> type) {
+    try {
+      return objectMapper.readerFor(type)
+          .with(DeserializationFeature.READ_ENUMS_USING_TO_STRING)
+          .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+          .readValue(json);
+    } catch (IOException e) {
+      throw new RuntimeException("Could not read JSON", e);
+    }
+  }
 }
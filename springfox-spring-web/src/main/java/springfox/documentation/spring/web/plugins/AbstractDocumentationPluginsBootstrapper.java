@@ -21,10 +21,18 @@ package springfox.documentation.spring.web.plugins;
 import com.fasterxml.classmate.TypeResolver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.method.HandlerMethod;
 import springfox.documentation.PathProvider;
 import springfox.documentation.RequestHandler;
 import springfox.documentation.schema.AlternateTypeRule;
 import springfox.documentation.schema.AlternateTypeRuleConvention;
+import springfox.documentation.service.ApiDescription;
+import springfox.documentation.service.ApiListing;
+import springfox.documentation.service.Documentation;
+import springfox.documentation.service.Operation;
+import springfox.documentation.service.ResourceGroup;
 import springfox.documentation.spi.DocumentationType;
 import springfox.documentation.spi.service.DocumentationPlugin;
 import springfox.documentation.spi.service.RequestHandlerCombiner;
@@ -33,13 +41,34 @@ import springfox.documentation.spi.service.contexts.Defaults;
 import springfox.documentation.spi.service.contexts.DocumentationContext;
 import springfox.documentation.spi.service.contexts.DocumentationContextBuilder;
 import springfox.documentation.spring.web.DocumentationCache;
+import springfox.documentation.spring.web.DocumentationSnapshotStore;
+import springfox.documentation.spring.web.DocumentationStatus;
 import springfox.documentation.spring.web.scanners.ApiDocumentationScanner;
+import springfox.documentation.spring.web.scanners.ApiListingScanState;
+import springfox.documentation.spring.web.scanners.CachingOperationReader;
 
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static springfox.documentation.builders.BuilderDefaults.nullToEmptyList;
 import static springfox.documentation.spi.service.contexts.Orderings.pluginOrdering;
 
@@ -53,6 +82,12 @@ public class AbstractDocumentationPluginsBootstrapper {
 
   private RequestHandlerCombiner combiner;
   private List<AlternateTypeRuleConvention> typeConventions;
+  private int parallelism = 1;
+  private DocumentationSnapshotStore snapshotStore;
+  private CachingOperationReader operationCache;
+  private boolean incrementalRefresh;
+  private volatile String snapshotFingerprint;
+  private final Map<String, ApiListingScanState> scanStates = new ConcurrentHashMap<>();
 
   public AbstractDocumentationPluginsBootstrapper(
       DocumentationPluginsManager documentationPluginsManager,
@@ -71,20 +106,392 @@ public class AbstractDocumentationPluginsBootstrapper {
   }
 
   protected void bootstrapDocumentationPlugins() {
+    List<DocumentationPlugin> enabled = enabledPlugins();
+    String fingerprint = snapshotFingerprint(enabled);
+    List<DocumentationPlugin> plugins = restoreSnapshot(fingerprint, enabled);
+    long start = System.nanoTime();
+    if (scansInParallel(plugins.size())) {
+      scanInParallel(groupScans(plugins));
+    } else {
+      for (DocumentationPlugin each : plugins) {
+        scanDocumentation(buildContext(each));
+      }
+    }
+    LOGGER.info("Documentation plugins bootstrapped in {} ms", elapsedMillis(start));
+    if (fingerprint != null && !plugins.isEmpty()) {
+      snapshotStore.store(fingerprint, getScanned().all());
+    }
+  }
+
+  /**
+   * Whether the groups are scanned at the same time. That needs the operation cache to generate the names of their
+   * operations in plugin order, without it they are scanned one after the other.
+   */
+  private boolean scansInParallel(int groups) {
+    if (parallelism <= 1 || groups <= 1) {
+      return false;
+    }
+    if (operationCache == null) {
+      LOGGER.warn("Scanning documentation groups one after the other, a parallelism of {} needs the operation cache",
+          parallelism);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Scans the groups at the same time. The operation names the scans ask for are reserved, and generated once every
+   * scan is done in plugin order, so that the suffixes telling operations with the same name apart come out the same
+   * as when the groups are scanned one after the other. The documentation of the groups is added to the cache in
+   * plugin order as well, once their operations are renamed.
+   */
+  private void scanInParallel(List<GroupScan> scans) {
+    runAll(scans.stream()
+        .map(each -> (Runnable) () -> each.reads = operationCache.recording(() -> scan(each)))
+        .collect(toList()));
+    Map<String, String> names = operationCache.generateReservedNames(scans.stream()
+        .map(each -> each.reads)
+        .filter(Objects::nonNull)
+        .collect(toList()));
+    for (GroupScan each : scans) {
+      if (each.documentation != null) {
+        rename(each.documentation, names, each.context.operationOrdering());
+      }
+      publish(each);
+    }
+  }
+
+  private List<GroupScan> groupScans(List<DocumentationPlugin> plugins) {
+    return plugins.stream()
+        .map(each -> new GroupScan(buildContext(each), null))
+        .collect(toList());
+  }
+
+  private void scan(GroupScan scan) {
+    long start = System.nanoTime();
+    String groupName = scan.context.getGroupName();
+    ApiListingScanState state = scanState(groupName);
+    try {
+      synchronized (state) {
+        scan.documentation = resourceListing.scan(scan.context, state, rescan(scan, state));
+      }
+      LOGGER.info("{} documentation group {} in {} ms",
+          scan.changed != null ? "Refreshed" : "Scanned", groupName, elapsedMillis(start));
+    } catch (Exception e) {
+      scan.failure = e;
+    }
+  }
+
+  /**
+   * The resource groups to read again: all of them, unless the scan is a refresh and the previous scan of the group
+   * succeeded and was kept, then only the ones of the changed controllers.
+   */
+  private Predicate<ResourceGroup> rescan(GroupScan scan, ApiListingScanState state) {
+    DocumentationStatus status = getScanned().status(scan.context.getGroupName());
+    if (scan.changed == null
+        || state.isEmpty()
+        || status == null
+        || status.getState() != DocumentationStatus.State.READY) {
+      return resourceGroup -> true;
+    }
+    return resourceGroup -> resourceGroup.getControllerClass()
+        .map(scan.changed::test)
+        .orElse(false);
+  }
+
+  /**
+   * Adds the documentation of the group to the cache. A failed scan marks the group as failed, a failed refresh
+   * leaves the previous documentation in place.
+   */
+  private void publish(GroupScan scan) {
+    String groupName = scan.context.getGroupName();
+    if (scan.documentation != null) {
+      getScanned().addDocumentation(scan.documentation);
+    } else if (scan.failure != null && scan.changed != null) {
+      LOGGER.error(String.format("Unable to refresh documentation context %s", groupName), scan.failure);
+    } else if (scan.failure != null) {
+      DocumentationType documentationType = scan.context.getDocumentationType();
+      getScanned().addFailure(
+          groupName,
+          documentationType.getName() + "_" + documentationType.getVersion(),
+          scan.failure);
+    }
+  }
+
+  private static void rename(Documentation documentation, Map<String, String> names, Comparator<Operation> ordering) {
+    if (names.isEmpty()) {
+      return;
+    }
+    for (List<ApiListing> listings : documentation.getApiListings().values()) {
+      for (ApiListing listing : listings) {
+        for (ApiDescription each : listing.getApis()) {
+          CachingOperationReader.rename(each.getOperations(), names, ordering);
+        }
+      }
+    }
+  }
+
+  /**
+   * Registers every enabled plugin with the documentation cache without scanning it; each group is scanned the
+   * first time its documentation is requested.
+   */
+  protected void registerDocumentationPlugins() {
+    registerDocumentationPlugins(true);
+  }
+
+  /**
+   * Registers every enabled plugin with the documentation cache without scanning it. The scan of a group first scans
+   * the groups before it in plugin order that are still pending, so that its operations are named the same whatever
+   * order the groups are requested in.
+   * <p>
+   * With a snapshot store, a snapshot is taken once the pending groups are scanned by
+   * {@link #scanPendingDocumentation()}, or after every scan on request, of the groups scanned so far.
+   *
+   * @param scanOnRequest whether a pending group is scanned when its documentation is requested, otherwise it is
+   *                      only scanned by {@link #scanPendingDocumentation()}
+   */
+  protected void registerDocumentationPlugins(boolean scanOnRequest) {
+    List<DocumentationPlugin> enabled = enabledPlugins();
+    String fingerprint = snapshotFingerprint(enabled);
+    snapshotFingerprint = fingerprint;
+    List<String> registered = new ArrayList<>();
+    for (DocumentationPlugin each : restoreSnapshot(fingerprint, enabled)) {
+      DocumentationType documentationType = each.getDocumentationType();
+      List<String> before = new ArrayList<>(registered);
+      getScanned().addPendingDocumentation(
+          each.getGroupName(),
+          documentationType.getName() + "_" + documentationType.getVersion(),
+          () -> scanPending(each, before, scanOnRequest),
+          scanOnRequest);
+      registered.add(each.getGroupName());
+    }
+  }
+
+  /**
+   * Scans the groups registered by {@link #registerDocumentationPlugins(boolean)} that are still pending, at the same
+   * time like {@link #bootstrapDocumentationPlugins()} does when the parallelism allows it.
+   */
+  protected void scanPendingDocumentation() {
+    long start = System.nanoTime();
+    List<String> pending = getScanned().pendingGroups();
+    List<DocumentationPlugin> plugins = enabledPlugins().stream()
+        .filter(each -> pending.contains(each.getGroupName()))
+        .collect(toList());
+    if (scansInParallel(plugins.size())) {
+      scanInParallel(groupScans(plugins));
+    } else {
+      pending.forEach(getScanned()::scanPendingDocumentation);
+    }
+    LOGGER.info("Documentation plugins bootstrapped in {} ms", elapsedMillis(start));
+    if (snapshotFingerprint != null && !pending.isEmpty()) {
+      snapshotStore.store(snapshotFingerprint, getScanned().all());
+    }
+  }
+
+  /**
+   * Scans the given controllers again in every documentation group, e.g. after their handler methods were registered
+   * or unregistered at runtime. The operations of those controllers are read again, the others are taken from the
+   * operation cache; with {@link #setIncrementalRefresh(boolean) incremental refresh} only the resource groups of
+   * those controllers are read again, everything else is taken from the previous scan of the group. The documentation of each group is replaced once its scan completes,
+   * until then, or if the scan fails, the previous documentation is served. Groups that are still pending are left
+   * alone, their scan sees the current request handlers anyway.
+   *
+   * @param controllers the controller classes that changed, their subclasses included
+   */
+  public void refreshDocumentation(Collection<? extends Class<?>> controllers) {
+    Predicate<Class<?>> changed = controller -> controllers.stream()
+        .anyMatch(each -> each.isAssignableFrom(controller));
+    invalidateOperations(changed);
+    long start = System.nanoTime();
+    List<GroupScan> scans = new ArrayList<>();
+    for (DocumentationPlugin each : enabledPlugins()) {
+      DocumentationStatus status = getScanned().status(each.getGroupName());
+      if (status != null && status.getState() == DocumentationStatus.State.PENDING) {
+        LOGGER.debug("Documentation group {} is not scanned yet, nothing to refresh", each.getGroupName());
+      } else {
+        scans.add(new GroupScan(buildContext(each), changed));
+      }
+    }
+    if (scansInParallel(scans.size())) {
+      scanInParallel(scans);
+    } else {
+      for (GroupScan each : scans) {
+        scan(each);
+        publish(each);
+      }
+    }
+    LOGGER.info("Documentation refreshed in {} ms", elapsedMillis(start));
+  }
+
+  /**
+   * Scans the controllers declaring the given handler methods again; see {@link #refreshDocumentation(Collection)}.
+   *
+   * @param handlerMethods the handler methods that were registered or unregistered
+   */
+  public void refreshHandlerMethods(Collection<Method> handlerMethods) {
+    refreshDocumentation(handlerMethods.stream()
+        .map(Method::getDeclaringClass)
+        .collect(toSet()));
+  }
+
+  /**
+   * Drops the cached operations of the changed controllers, the cache only knows request mappings and would hand out
+   * the operations of a handler method that was replaced by another one with the same mapping.
+   */
+  private void invalidateOperations(Predicate<Class<?>> changed) {
+    if (operationCache == null) {
+      return;
+    }
+    Set<String> resourceGroupNames = handlerProviders.stream()
+        .map(RequestHandlerProvider::requestHandlers)
+        .flatMap(Collection::stream)
+        .filter(each -> changed.test(each.declaringClass()))
+        .map(RequestHandler::groupName)
+        .collect(toSet());
+    scanStates.values().stream()
+        .flatMap(each -> each.resourceGroups().stream())
+        .filter(each -> each.getControllerClass().map(changed::test).orElse(false))
+        .map(ResourceGroup::getGroupName)
+        .forEach(resourceGroupNames::add);
+    operationCache.invalidate(mapping -> resourceGroupNames.contains(mapping.getGroupName()));
+  }
+
+  /**
+   * What the previous scan of the group read; kept for the next scan only with incremental refresh.
+   */
+  private ApiListingScanState scanState(String groupName) {
+    if (!incrementalRefresh) {
+      return new ApiListingScanState();
+    }
+    return scanStates.computeIfAbsent(groupName, key -> new ApiListingScanState());
+  }
+
+  /**
+   * Forgets what was read by the previous scans, the next refresh of each group reads everything again.
+   */
+  protected void clearScanStates() {
+    scanStates.clear();
+  }
+
+  private List<DocumentationPlugin> enabledPlugins() {
     List<DocumentationPlugin> plugins = documentationPluginsManager.documentationPlugins()
         .stream()
         .sorted(pluginOrdering())
         .collect(toList());
     LOGGER.debug("Found {} custom documentation plugin(s)", plugins.size());
+    List<DocumentationPlugin> enabled = new ArrayList<>();
     for (DocumentationPlugin each : plugins) {
       DocumentationType documentationType = each.getDocumentationType();
       if (each.isEnabled()) {
-        scanDocumentation(buildContext(each));
+        enabled.add(each);
       } else {
         LOGGER.debug("Skipping initializing disabled plugin bean {} v{}",
             documentationType.getName(), documentationType.getVersion());
       }
     }
+    return enabled;
+  }
+
+  /**
+   * @return the fingerprint to restore and take snapshots with, or null without an active snapshot store
+   */
+  private String snapshotFingerprint(List<DocumentationPlugin> plugins) {
+    return snapshotStore != null && snapshotStore.isActive() ? fingerprint(plugins) : null;
+  }
+
+  /**
+   * Registers the groups found in the snapshot matching the fingerprint with the documentation cache.
+   *
+   * @return the plugins that still have to be scanned
+   */
+  private List<DocumentationPlugin> restoreSnapshot(String fingerprint, List<DocumentationPlugin> plugins) {
+    if (fingerprint == null) {
+      return plugins;
+    }
+    Map<String, String> restored = snapshotStore.restore(fingerprint);
+    List<DocumentationPlugin> remaining = new ArrayList<>();
+    for (DocumentationPlugin each : plugins) {
+      String documentationType = restored.get(each.getGroupName());
+      if (documentationType != null) {
+        getScanned().addSnapshot(each.getGroupName(), documentationType);
+      } else {
+        remaining.add(each);
+      }
+    }
+    if (remaining.size() < plugins.size()) {
+      LOGGER.info("Restored {} documentation group(s) from snapshot {}",
+          plugins.size() - remaining.size(), fingerprint);
+    }
+    return remaining;
+  }
+
+  /**
+   * A digest of the request handlers and of the documentation groups; a snapshot of the documentation is stale as
+   * soon as either changes.
+   */
+  private String fingerprint(List<DocumentationPlugin> plugins) {
+    List<String> descriptors = handlerProviders.stream()
+        .map(RequestHandlerProvider::requestHandlers)
+        .flatMap(Collection::stream)
+        .map(AbstractDocumentationPluginsBootstrapper::descriptor)
+        .sorted()
+        .collect(toList());
+    for (DocumentationPlugin each : plugins) {
+      DocumentationType documentationType = each.getDocumentationType();
+      descriptors.add(each.getGroupName() + " " + documentationType.getName() + "_" + documentationType.getVersion());
+    }
+    return DigestUtils.md5DigestAsHex(String.join("\n", descriptors).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String descriptor(RequestHandler handler) {
+    HandlerMethod handlerMethod = handler.getHandlerMethod();
+    return String.join(
+        " ",
+        handlerMethod != null
+        ? handlerMethod.getMethod().toGenericString()
+        : handler.declaringClass().getName() + "#" + handler.getName(),
+        RequestHandler.sortedPaths(handler.getPatternsCondition()),
+        sorted(handler.supportedMethods()),
+        sorted(handler.produces()),
+        sorted(handler.consumes()),
+        sorted(handler.headers()),
+        sorted(handler.params()));
+  }
+
+  private static String sorted(Collection<?> values) {
+    return values.stream()
+        .map(String::valueOf)
+        .sorted()
+        .collect(joining(","));
+  }
+
+  /**
+   * Runs the scans on at most {@link #parallelism} threads, or one after the other on the calling thread.
+   */
+  private void runAll(List<Runnable> scans) {
+    if (parallelism <= 1 || scans.size() <= 1) {
+      scans.forEach(Runnable::run);
+      return;
+    }
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("springfox-scan-");
+    threadFactory.setDaemon(true);
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, scans.size()), threadFactory);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (Runnable each : scans) {
+        futures.add(executor.submit(each));
+      }
+      for (Future<?> each : futures) {
+        each.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOGGER.warn("Interrupted while scanning documentation groups");
+    } catch (ExecutionException e) {
+      LOGGER.error("Unable to scan documentation groups", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
   }
 
   protected DocumentationContext buildContext(DocumentationPlugin each) {
@@ -92,11 +499,37 @@ public class AbstractDocumentationPluginsBootstrapper {
   }
 
   protected void scanDocumentation(DocumentationContext context) {
+    long start = System.nanoTime();
+    ApiListingScanState state = scanState(context.getGroupName());
     try {
-      getScanned().addDocumentation(resourceListing.scan(context));
+      synchronized (state) {
+        getScanned().addDocumentation(resourceListing.scan(context, state, resourceGroup -> true));
+      }
+      LOGGER.info("Scanned documentation group {} in {} ms", context.getGroupName(), elapsedMillis(start));
     } catch (Exception e) {
-      LOGGER.error(String.format("Unable to scan documentation context %s", context.getGroupName()), e);
+      DocumentationType documentationType = context.getDocumentationType();
+      getScanned().addFailure(
+          context.getGroupName(),
+          documentationType.getName() + "_" + documentationType.getVersion(),
+          e);
+    }
+  }
+
+  private Documentation scanPending(DocumentationPlugin plugin, List<String> before, boolean scanOnRequest) {
+    before.forEach(getScanned()::scanPendingDocumentation);
+    long start = System.nanoTime();
+    ApiListingScanState state = scanState(plugin.getGroupName());
+    Documentation documentation;
+    synchronized (state) {
+      documentation = resourceListing.scan(buildContext(plugin), state, resourceGroup -> true);
+    }
+    LOGGER.info("Scanned documentation group {} in {} ms", plugin.getGroupName(), elapsedMillis(start));
+    if (scanOnRequest && snapshotFingerprint != null) {
+      Map<String, Documentation> scannedSoFar = new LinkedHashMap<>(getScanned().all());
+      scannedSoFar.put(plugin.getGroupName(), documentation);
+      snapshotStore.store(snapshotFingerprint, scannedSoFar);
     }
+    return documentation;
   }
 
   private DocumentationContextBuilder withDefaults(DocumentationPlugin plugin) {
@@ -115,6 +548,10 @@ public class AbstractDocumentationPluginsBootstrapper {
     return documentationPluginsManager.applyDefaults(documentationType, documentationContextBuilder);
   }
 
+  private static long elapsedMillis(long startNanos) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+  }
+
   private RequestHandlerCombiner combiner() {
     return ofNullable(combiner).orElse(new DefaultRequestHandlerCombiner());
   }
@@ -127,6 +564,53 @@ public class AbstractDocumentationPluginsBootstrapper {
     this.typeConventions = typeConventions;
   }
 
+  /**
+   * @param parallelism the number of groups scanned at the same time, 1 (the default) scans them one by one
+   */
+  public void setParallelism(int parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * @param incrementalRefresh whether what each scan read is kept, for as long as the application runs, so that a
+   *                           refresh only reads the resource groups of the changed controllers again; off by default,
+   *                           a refresh then scans every group again, reading only the changed operations
+   */
+  public void setIncrementalRefresh(boolean incrementalRefresh) {
+    this.incrementalRefresh = incrementalRefresh;
+  }
+
+  public boolean isIncrementalRefresh() {
+    return incrementalRefresh;
+  }
+
+  /**
+   * @param snapshotStore restores the documentation instead of scanning it when its snapshot is current, and takes
+   *                      a snapshot of the scanned documentation in every bootstrap mode
+   */
+  public void setSnapshotStore(DocumentationSnapshotStore snapshotStore) {
+    this.snapshotStore = snapshotStore;
+  }
+
+  public DocumentationSnapshotStore getSnapshotStore() {
+    return snapshotStore;
+  }
+
+  /**
+   * @param operationCache invalidated for the controllers that are refreshed
+   */
+  public void setOperationCache(CachingOperationReader operationCache) {
+    this.operationCache = operationCache;
+  }
+
+  public CachingOperationReader getOperationCache() {
+    return operationCache;
+  }
+
   public DocumentationPluginsManager getDocumentationPluginsManager() {
     return documentationPluginsManager;
   }
@@ -154,4 +638,24 @@ public class AbstractDocumentationPluginsBootstrapper {
   public List<AlternateTypeRuleConvention> getTypeConventions() {
     return typeConventions;
   }
+
+  /**
+   * The scan of one group, filled in by the thread scanning it.
+   */
+  private static class GroupScan {
+    private final DocumentationContext context;
+    private final Predicate<Class<?>> changed;
+    private CachingOperationReader.Reads reads;
+    private Documentation documentation;
+    private Exception failure;
+
+    /**
+     * @param context the group
+     * @param changed the controllers that changed when the scan is a refresh, otherwise null
+     */
+    GroupScan(DocumentationContext context, Predicate<Class<?>> changed) {
+      this.context = context;
+      this.changed = changed;
+    }
+  }
 }
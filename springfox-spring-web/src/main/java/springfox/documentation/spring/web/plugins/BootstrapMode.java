@@ -0,0 +1,20 @@
+package springfox.documentation.spring.web.plugins;
+
+/**
+ * When the documentation groups are scanned, see {@code springfox.documentation.bootstrap.mode}.
+ */
+public enum BootstrapMode {
+  /**
+   * Every group is scanned while the application context starts.
+   */
+  EAGER,
+  /**
+   * Each group is scanned the first time its documentation is requested.
+   */
+  LAZY,
+  /**
+   * The groups are scanned on a background thread once the application context has started; until a group is
+   * scanned its documentation endpoints answer 503.
+   */
+  BACKGROUND
+}
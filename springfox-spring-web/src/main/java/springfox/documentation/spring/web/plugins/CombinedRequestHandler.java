@@ -43,6 +43,7 @@ import static java.util.stream.Collectors.toSet;
 public class CombinedRequestHandler implements RequestHandler {
     private final RequestHandler first;
     private final RequestHandler second;
+    private volatile RequestHandlerKey key;
 
     public CombinedRequestHandler(RequestHandler first, RequestHandler second) {
         this.first = first;
@@ -119,14 +120,22 @@ public class CombinedRequestHandler implements RequestHandler {
                 .orElse(second.findAnnotation(annotation));
     }
 
+    /**
+     * The key is combined once, it is looked up for every operation read and every api description.
+     */
     @SuppressWarnings("unchecked")
     @Override
     public RequestHandlerKey key() {
-        return new RequestHandlerKey(
-                getPatternsCondition().getPatterns(),
-                supportedMethods(),
-                consumes(),
-                produces());
+        RequestHandlerKey combined = key;
+        if (combined == null) {
+            combined = new RequestHandlerKey(
+                    getPatternsCondition().getPatterns(),
+                    supportedMethods(),
+                    consumes(),
+                    produces());
+            key = combined;
+        }
+        return combined;
     }
 
     @Override
@@ -90,6 +90,7 @@ public class Docket implements DocumentationPlugin {
   private Optional<String> pathMapping = empty();
   private ApiSelector apiSelector = ApiSelector.DEFAULT;
   private boolean enableUrlTemplating = false;
+  private boolean modernModelsOnly = false;
   private final List<VendorExtension> vendorExtensions = new ArrayList<>();
   private final List<RequestParameter> globalRequestParameters = new ArrayList<>();
 
@@ -429,6 +430,20 @@ public class Docket implements DocumentationPlugin {
     return this;
   }
 
+  /**
+   * Skips the deprecated model graph when scanning, only the model specifications are read. The open api 3.0
+   * specification is built from the model specifications alone, so this only applies to OAS_30 dockets; the
+   * deprecated models of the api listings are left empty.
+   *
+   * @param modernModelsOnly - true to only read model specifications
+   * @return this Docket
+   * @since 3.0.3
+   */
+  public Docket modernModelsOnly(boolean modernModelsOnly) {
+    this.modernModelsOnly = modernModelsOnly;
+    return this;
+  }
+
   /**
    * Method to add additional models that are not part of any annotation or are perhaps implicit
    *
@@ -524,6 +539,10 @@ public class Docket implements DocumentationPlugin {
     return groupName;
   }
 
+  public boolean isModernModelsOnly() {
+    return modernModelsOnly;
+  }
+
   @Override
   public boolean isEnabled() {
     return enabled;
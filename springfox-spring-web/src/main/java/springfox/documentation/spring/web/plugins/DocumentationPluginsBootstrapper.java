@@ -26,6 +26,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.SmartLifecycle;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import springfox.documentation.PathProvider;
 import springfox.documentation.schema.AlternateTypeRuleConvention;
@@ -33,9 +34,12 @@ import springfox.documentation.spi.service.RequestHandlerCombiner;
 import springfox.documentation.spi.service.RequestHandlerProvider;
 import springfox.documentation.spi.service.contexts.Defaults;
 import springfox.documentation.spring.web.DocumentationCache;
+import springfox.documentation.spring.web.DocumentationSnapshotStore;
 import springfox.documentation.spring.web.scanners.ApiDocumentationScanner;
+import springfox.documentation.spring.web.scanners.CachingOperationReader;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -52,7 +56,13 @@ public class DocumentationPluginsBootstrapper
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DocumentationPluginsBootstrapper.class);
     private static final String SPRINGFOX_DOCUMENTATION_AUTO_STARTUP = "springfox.documentation.auto-startup";
+    private static final String SPRINGFOX_DOCUMENTATION_BOOTSTRAP_PARALLELISM
+            = "springfox.documentation.bootstrap.parallelism";
+    private static final String SPRINGFOX_DOCUMENTATION_BOOTSTRAP_MODE = "springfox.documentation.bootstrap.mode";
+    private static final String SPRINGFOX_DOCUMENTATION_REFRESH_INCREMENTAL
+            = "springfox.documentation.refresh.incremental";
     private final Environment environment;
+    private final BootstrapMode mode;
 
     private final AtomicBoolean initialized = new AtomicBoolean(false);
 
@@ -77,6 +87,11 @@ public class DocumentationPluginsBootstrapper
                 pathProvider);
 
         this.environment = environment;
+        setParallelism(environment.getProperty(SPRINGFOX_DOCUMENTATION_BOOTSTRAP_PARALLELISM, Integer.class, 1));
+        setIncrementalRefresh(
+                environment.getProperty(SPRINGFOX_DOCUMENTATION_REFRESH_INCREMENTAL, Boolean.class, false));
+        this.mode = BootstrapMode.valueOf(
+                environment.getProperty(SPRINGFOX_DOCUMENTATION_BOOTSTRAP_MODE, "eager").toUpperCase(Locale.ENGLISH));
     }
 
     @Override
@@ -96,8 +111,20 @@ public class DocumentationPluginsBootstrapper
     @Override
     public void start() {
         if (initialized.compareAndSet(false, true)) {
-            LOGGER.debug("Documentation plugins bootstrapped");
-            super.bootstrapDocumentationPlugins();
+            if (mode == BootstrapMode.LAZY) {
+                LOGGER.debug("Documentation plugins registered for lazy scanning");
+                super.registerDocumentationPlugins();
+            } else if (mode == BootstrapMode.BACKGROUND) {
+                LOGGER.debug("Documentation plugins registered for background scanning");
+                super.registerDocumentationPlugins(false);
+                Thread scanner = new CustomizableThreadFactory("springfox-bootstrap-")
+                        .createThread(super::scanPendingDocumentation);
+                scanner.setDaemon(true);
+                scanner.start();
+            } else {
+                LOGGER.debug("Documentation plugins bootstrapped");
+                super.bootstrapDocumentationPlugins();
+            }
         }
     }
 
@@ -105,6 +132,10 @@ public class DocumentationPluginsBootstrapper
     public void stop() {
         initialized.getAndSet(false);
         getScanned().clear();
+        clearScanStates();
+        if (getOperationCache() != null) {
+            getOperationCache().clear();
+        }
     }
 
     @Override
@@ -128,4 +159,19 @@ public class DocumentationPluginsBootstrapper
     public void setTypeConventions(List<AlternateTypeRuleConvention> typeConventions) {
         super.setTypeConventions(typeConventions);
     }
+
+    /**
+     * @param operationCache cleared when the bootstrapper is stopped, so that a restart reads every operation again
+     */
+    @Override
+    @Autowired(required = false)
+    public void setOperationCache(CachingOperationReader operationCache) {
+        super.setOperationCache(operationCache);
+    }
+
+    @Override
+    @Autowired(required = false)
+    public void setSnapshotStore(DocumentationSnapshotStore snapshotStore) {
+        super.setSnapshotStore(snapshotStore);
+    }
 }
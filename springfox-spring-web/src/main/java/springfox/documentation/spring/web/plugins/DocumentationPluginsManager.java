@@ -139,6 +139,23 @@ public class DocumentationPluginsManager {
         return context.operationModelsBuilder().build();
     }
 
+    /**
+     * @return true if the documentation context was configured by an OAS_30 {@link Docket} that only reads model
+     * specifications
+     * @see Docket#modernModelsOnly(boolean)
+     */
+    public boolean modernModelsOnly(DocumentationContext context) {
+        if (!DocumentationType.OAS_30.equals(context.getDocumentationType())) {
+            return false;
+        }
+        return documentationPlugins().stream()
+                .filter(each -> each instanceof Docket)
+                .map(Docket.class::cast)
+                .filter(each -> DocumentationType.OAS_30.equals(each.getDocumentationType()))
+                .filter(each -> Objects.equals(each.getGroupName(), context.getGroupName()))
+                .anyMatch(Docket::isModernModelsOnly);
+    }
+
     public ModelNamesRegistryFactoryPlugin modelNamesGeneratorFactory(DocumentationType documentationType) {
         return modelNameRegistryFactoryPlugins.getPluginOrDefaultFor(
                 documentationType,
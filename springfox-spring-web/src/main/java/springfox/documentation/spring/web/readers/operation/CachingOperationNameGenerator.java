@@ -23,24 +23,127 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import springfox.documentation.OperationNameGenerator;
 
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
+/**
+ * Names operations uniquely: the first operation asking for a prefix gets the prefix, the next ones the lowest
+ * {@code _n} suffix no other operation holds. Names of operations that are read again can be
+ * {@link #release(Collection) released}, so that the operations get them back instead of ever higher suffixes.
+ */
 @Component
 public class CachingOperationNameGenerator implements OperationNameGenerator {
   private static final Logger LOG = LoggerFactory.getLogger(CachingOperationNameGenerator.class);
-  private final Map<String, Integer> generated = new HashMap<>();
+  private static final String RESERVED = "\u0000";
+  private final Map<String, BitSet> generated = new HashMap<>();
+  private final Map<String, String> prefixes = new HashMap<>();
+  private final ThreadLocal<List<Reservation>> reserving = new ThreadLocal<>();
+  private final AtomicLong reservations = new AtomicLong();
 
   @Override
   public String startingWith(String prefix) {
-    if (generated.containsKey(prefix)) {
-      generated.put(prefix, generated.get(prefix) + 1);
-      String nextUniqueOperationName = String.format("%s_%s", prefix, generated.get(prefix));
-      LOG.debug("Generating unique operation named: {}", nextUniqueOperationName);
-      return nextUniqueOperationName;
-    } else {
-      generated.put(prefix, 0);
+    List<Reservation> reserved = reserving.get();
+    if (reserved != null) {
+      Reservation reservation = new Reservation(prefix, prefix + RESERVED + reservations.incrementAndGet());
+      reserved.add(reservation);
+      return reservation.getName();
+    }
+    return generate(prefix);
+  }
+
+  private synchronized String generate(String prefix) {
+    BitSet taken = generated.computeIfAbsent(prefix, key -> new BitSet());
+    int suffix = taken.nextClearBit(0);
+    taken.set(suffix);
+    if (suffix == 0) {
+      prefixes.put(prefix, prefix);
+      return prefix;
+    }
+    String nextUniqueOperationName = String.format("%s_%s", prefix, suffix);
+    LOG.debug("Generating unique operation named: {}", nextUniqueOperationName);
+    prefixes.put(nextUniqueOperationName, prefix);
+    return nextUniqueOperationName;
+  }
+
+  /**
+   * Makes generated names available again, e.g. the ones of operations that are about to be read again.
+   *
+   * @param names generated names, the ones this generator did not hand out are ignored
+   */
+  public synchronized void release(Collection<String> names) {
+    for (String each : names) {
+      String prefix = prefixes.remove(each);
+      if (prefix != null) {
+        generated.get(prefix).clear(each.equals(prefix) ? 0 : Integer.parseInt(each.substring(prefix.length() + 1)));
+      }
+    }
+  }
+
+  /**
+   * Runs the read with the names it asks for reserved instead of generated. A reserved name is a placeholder until it
+   * is generated with {@link #generate(List)}, so that reads running in parallel can be named in a fixed order.
+   *
+   * @param reserved collects the names reserved by the read, in order
+   * @param read     reads operations
+   * @param <T>      the result of the read
+   * @return the result of the read
+   */
+  public <T> T reserving(List<Reservation> reserved, Supplier<T> read) {
+    List<Reservation> previous = reserving.get();
+    reserving.set(reserved);
+    try {
+      return read.get();
+    } finally {
+      if (previous != null) {
+        reserving.set(previous);
+      } else {
+        reserving.remove();
+      }
+    }
+  }
+
+  /**
+   * Generates the reserved names one after the other, as if they had been asked for in the given order.
+   *
+   * @param reserved the reserved names
+   * @return the generated name of each reserved name
+   */
+  public synchronized Map<String, String> generate(List<Reservation> reserved) {
+    Map<String, String> names = new HashMap<>();
+    for (Reservation each : reserved) {
+      names.put(each.getName(), generate(each.getPrefix()));
+    }
+    return names;
+  }
+
+  /**
+   * @param name an operation name
+   * @return whether the name is a placeholder that was not generated yet
+   */
+  public static boolean isReserved(String name) {
+    return name != null && name.contains(RESERVED);
+  }
+
+  public static class Reservation {
+    private final String prefix;
+    private final String name;
+
+    Reservation(String prefix, String name) {
+      this.prefix = prefix;
+      this.name = name;
+    }
+
+    public String getPrefix() {
       return prefix;
     }
+
+    public String getName() {
+      return name;
+    }
   }
 }
@@ -36,6 +36,7 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -51,7 +52,7 @@ public class HandlerMethodResolver {
   private static final String SPRING4_DISCOVERER = "org.springframework.core.DefaultParameterNameDiscoverer";
   private final ParameterNameDiscoverer parameterNameDiscover = parameterNameDiscoverer();
   private final TypeResolver typeResolver;
-  private Map<Class, List<ResolvedMethod>> methodsResolvedForHostClasses = new HashMap<>();
+  private Map<Class, List<ResolvedMethod>> methodsResolvedForHostClasses = new ConcurrentHashMap<>();
 
   public HandlerMethodResolver(TypeResolver typeResolver) {
     this.typeResolver = typeResolver;
@@ -136,17 +137,14 @@ public class HandlerMethodResolver {
 
   private List<ResolvedMethod> getMemberMethods(
       Class hostClass) {
-    if (!methodsResolvedForHostClasses.containsKey(hostClass)) {
-      ResolvedType beanType = typeResolver.resolve(hostClass);
+    return methodsResolvedForHostClasses.computeIfAbsent(hostClass, key -> {
+      ResolvedType beanType = typeResolver.resolve(key);
       MemberResolver resolver = new MemberResolver(typeResolver);
       resolver.setIncludeLangObject(false);
       ResolvedTypeWithMembers typeWithMembers
           = resolver.resolve(beanType, null, null);
-      methodsResolvedForHostClasses.put(
-          hostClass,
-          Stream.of(typeWithMembers.getMemberMethods()).collect(toList()));
-    }
-    return methodsResolvedForHostClasses.get(hostClass);
+      return Stream.of(typeWithMembers.getMemberMethods()).collect(toList());
+    });
   }
 
   private static Function<ResolvedMethod, ResolvedType> toReturnType(final TypeResolver resolver) {
@@ -24,8 +24,8 @@ import springfox.documentation.RequestHandlerKey;
 import springfox.documentation.annotations.Incubating;
 import springfox.documentation.service.ApiDescription;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Given a handler method this class serves to lookup the api description. The overall goal of this abstraction is to
@@ -34,7 +34,7 @@ import java.util.Map;
 @Component
 @Incubating("2.2.0")
 public class ApiDescriptionLookup {
-  private Map<RequestHandlerKey, ApiDescription> cache = new HashMap<>();
+  private Map<RequestHandlerKey, ApiDescription> cache = new ConcurrentHashMap<>();
 
   public void add(RequestHandlerKey key, ApiDescription value) {
     cache.put(key, value);
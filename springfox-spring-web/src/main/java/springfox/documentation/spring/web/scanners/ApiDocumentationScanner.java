@@ -29,6 +29,7 @@ import springfox.documentation.spring.web.paths.PathMappingAdjuster;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
@@ -52,11 +53,27 @@ public class ApiDocumentationScanner {
     }
 
     public Documentation scan(DocumentationContext context) {
+        return scan(context, new ApiListingScanState(), resourceGroup -> true);
+    }
+
+    /**
+     * Scans the documentation group, reading again only the resource groups matching {@code rescan}; see
+     * {@link ApiListingScanner#scan(ApiListingScanningContext, ApiListingScanState, Predicate)}.
+     *
+     * @param context the documentation context
+     * @param state   what was read by the previous scan of the group, replaced once this scan succeeds
+     * @param rescan  the resource groups to read again
+     * @return the documentation of the group
+     */
+    public Documentation scan(
+            DocumentationContext context,
+            ApiListingScanState state,
+            Predicate<ResourceGroup> rescan) {
         ApiListingReferenceScanResult result = apiListingReferenceScanner.scan(context);
         ApiListingScanningContext listingContext = new ApiListingScanningContext(context,
                 result.getResourceGroupRequestMappings());
 
-        Map<String, List<ApiListing>> apiListings = apiListingScanner.scan(listingContext);
+        Map<String, List<ApiListing>> apiListings = apiListingScanner.scan(listingContext, state, rescan);
         Set<Tag> tags = toTags(apiListings);
         tags.addAll(context.getTags());
         DocumentationBuilder group = new DocumentationBuilder()
@@ -0,0 +1,55 @@
+/*
+ *
+ *  Copyright 2017-2018 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.scanners;
+
+import springfox.documentation.service.ResourceGroup;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * What the last scan of a documentation group read for each of its resource groups, so that a later scan of the
+ * group only has to read the resource groups that changed.
+ */
+public class ApiListingScanState {
+  private volatile Map<ResourceGroup, ApiListingScanner.ResourceGroupScan> scans = Collections.emptyMap();
+
+  /**
+   * @return the resource groups of the last scan
+   */
+  public Set<ResourceGroup> resourceGroups() {
+    return new LinkedHashSet<>(scans.keySet());
+  }
+
+  public boolean isEmpty() {
+    return scans.isEmpty();
+  }
+
+  ApiListingScanner.ResourceGroupScan get(ResourceGroup resourceGroup) {
+    return scans.get(resourceGroup);
+  }
+
+  void replace(Map<ResourceGroup, ApiListingScanner.ResourceGroupScan> scans) {
+    this.scans = Collections.unmodifiableMap(new LinkedHashMap<>(scans));
+  }
+}
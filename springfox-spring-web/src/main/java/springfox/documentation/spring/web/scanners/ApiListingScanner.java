@@ -23,17 +23,17 @@ import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import springfox.documentation.builders.ApiListingBuilder;
+import springfox.documentation.schema.ModelSpecification;
 import springfox.documentation.service.*;
+import springfox.documentation.spi.service.ModelNamesRegistryFactoryPlugin;
 import springfox.documentation.spi.service.contexts.ApiListingContext;
 import springfox.documentation.spi.service.contexts.DocumentationContext;
-import springfox.documentation.spi.service.contexts.ModelSpecificationRegistry;
 import springfox.documentation.spi.service.contexts.RequestMappingContext;
 import springfox.documentation.spring.web.paths.PathMappingAdjuster;
 import springfox.documentation.spring.web.plugins.DocumentationPluginsManager;
 
 import java.util.*;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.Optional.empty;
@@ -103,6 +103,27 @@ public class ApiListingScanner {
   }
 
   public Map<String, List<ApiListing>> scan(ApiListingScanningContext context) {
+    return scan(context, new ApiListingScanState(), resourceGroup -> true);
+  }
+
+  /**
+   * Scans the api listings of a documentation group, reading again only the resource groups that match
+   * {@code rescan} or that were not part of the previous scan; what was read for the others is taken from the state.
+   * The models are still named and the listings built for every resource group.
+   * <p>
+   * The result is not always the one of a full scan: the resource groups taken from the state keep the models and
+   * the operation ids they were read with. Operations read again keep their ids when the operation cache released
+   * them on invalidation and no other operation took them in between.
+   *
+   * @param context the scanning context, with the request mappings of every resource group
+   * @param state   what was read by the previous scan of the group, replaced once this scan succeeds
+   * @param rescan  the resource groups to read again
+   * @return the api listings by resource group name
+   */
+  public Map<String, List<ApiListing>> scan(
+      ApiListingScanningContext context,
+      ApiListingScanState state,
+      Predicate<ResourceGroup> rescan) {
     final Map<String, List<ApiListing>> apiListingMap = new HashMap<>();
     int position = 0;
 
@@ -120,75 +141,75 @@ public class ApiListingScanner {
     List<SecurityReference> securityReferences = new ArrayList<>();
 
     Map<String, Set<springfox.documentation.schema.Model>> globalModelMap = new HashMap<>();
+    boolean legacyModels = !pluginsManager.modernModelsOnly(context.getDocumentationContext());
+    // per group, models are not shared with the other groups, see ModelScanMemo
+    ModelScanMemo modelMemo = new ModelScanMemo();
+    DocumentationContext documentationContext = context.getDocumentationContext();
+    ModelSpecificationRegistryBuilder docketModelRegistryBuilder = new ModelSpecificationRegistryBuilder();
+    Map<ResourceGroup, ResourceGroupScan> resourceGroupScans = new LinkedHashMap<>();
     for (ResourceGroup resourceGroup : sortedByName(allResourceGroups)) {
-
-      DocumentationContext documentationContext = context.getDocumentationContext();
-      Set<String> produces = new LinkedHashSet<>(documentationContext.getProduces());
-      Set<String> consumes = new LinkedHashSet<>(documentationContext.getConsumes());
-      String host = documentationContext.getHost();
-      Set<String> protocols = new LinkedHashSet<>(documentationContext.getProtocols());
-      Set<ApiDescription> apiDescriptions = new HashSet<>();
-      ModelSpecificationRegistryBuilder modelRegistryBuilder = new ModelSpecificationRegistryBuilder();
-
-
-      final Map<String, springfox.documentation.schema.Model> models = new LinkedHashMap<>();
-      List<RequestMappingContext> requestMappings = nullToEmptyList(requestMappingsByResourceGroup.get(resourceGroup));
-      for (RequestMappingContext each : sortedByMethods(requestMappings)) {
-        Map<String, Set<springfox.documentation.schema.Model>> currentModelMap
-            = apiModelReader.read(each.withKnownModels(
-            globalModelMap));
-        modelRegistryBuilder.addAll(
-            modelSpecificationReader.read(each.withKnownModels(globalModelMap))
-                .stream()
-                .filter(m -> m.key().isPresent())
-                .collect(Collectors.toList()));
-        currentModelMap.values().forEach(list -> {
-          for (springfox.documentation.schema.Model model : list) {
-            models.put(
-                model.getName(),
-                model);
-          }
-        });
-        globalModelMap.putAll(currentModelMap);
-        apiDescriptions.addAll(apiDescriptionReader.read(each.withKnownModels(currentModelMap)));
+      ResourceGroupScan scan = state.get(resourceGroup);
+      if (scan == null || rescan.test(resourceGroup)) {
+        scan = read(
+            resourceGroup,
+            documentationContext,
+            nullToEmptyList(requestMappingsByResourceGroup.get(resourceGroup)),
+            additionalListings,
+            globalModelMap,
+            legacyModels,
+            modelMemo);
+      } else {
+        LOGGER.debug("Reusing the previous scan of resource group {}", resourceGroup.getGroupName());
+        globalModelMap.putAll(scan.knownModels);
       }
+      scan.specifications.forEach(docketModelRegistryBuilder::add);
+      resourceGroupScans.put(resourceGroup, scan);
+    }
 
-      List<ApiDescription> additional = additionalListings.stream()
-          .filter(
-              belongsTo(resourceGroup.getGroupName())
-                  .and(onlySelectedApis(documentationContext)))
-          .collect(toList());
-
-      apiDescriptions.addAll(additional);
-
-      List<ApiDescription> sortedApis = apiDescriptions.stream()
-          .sorted(documentationContext.getApiDescriptionOrdering()).collect(toList());
-
+    ModelNamesRegistryFactoryPlugin modelNamesRegistryFactory =
+        pluginsManager.modelNamesGeneratorFactory(documentationContext.getDocumentationType());
+    ModelNamesRegistry docketModelNamesRegistry = null;
+    Map<String, ModelSpecification> docketModelsByName = null;
+    if (docketModelRegistryBuilder.hasConflictingKeys()) {
+      LOGGER.debug("Different models share a model key, naming the models of each api listing separately");
+    } else {
+      docketModelNamesRegistry = modelNamesRegistryFactory.modelNamesRegistry(docketModelRegistryBuilder.build());
+      docketModelsByName = docketModelNamesRegistry.modelsByName();
+      LOGGER.trace("Models in the name registry {}", docketModelsByName.keySet());
+    }
+    PathAdjuster adjuster = new PathMappingAdjuster(documentationContext);
+    for (ResourceGroupScan scan : resourceGroupScans.values()) {
+      ResourceGroup resourceGroup = scan.resourceGroup;
+      ModelNamesRegistry modelNamesRegistry;
+      Map<String, ModelSpecification> modelSpecifications;
+      if (docketModelNamesRegistry != null) {
+        modelNamesRegistry = docketModelNamesRegistry;
+        modelSpecifications = modelsOf(scan.specifications, docketModelNamesRegistry, docketModelsByName);
+      } else {
+        ModelSpecificationRegistryBuilder modelRegistryBuilder = new ModelSpecificationRegistryBuilder();
+        modelRegistryBuilder.addAll(scan.specifications);
+        modelNamesRegistry = modelNamesRegistryFactory.modelNamesRegistry(modelRegistryBuilder.build());
+        modelSpecifications = modelNamesRegistry.modelsByName();
+        LOGGER.trace("Models in the name registry {}", modelSpecifications.keySet());
+      }
       String resourcePath = new ResourcePathProvider(resourceGroup)
           .resourcePath()
           .orElse(
-              longestCommonPath(sortedApis)
+              longestCommonPath(scan.apis)
                   .orElse(null));
 
-
-      PathAdjuster adjuster = new PathMappingAdjuster(documentationContext);
-      ModelSpecificationRegistry modelRegistry = modelRegistryBuilder.build();
-      ModelNamesRegistry modelNamesRegistry =
-          pluginsManager.modelNamesGeneratorFactory(documentationContext.getDocumentationType())
-              .modelNamesRegistry(modelRegistry);
-      LOGGER.trace("Models in the name registry {}", modelNamesRegistry.modelsByName().keySet());
       ApiListingBuilder apiListingBuilder = new ApiListingBuilder(context.apiDescriptionOrdering())
           .apiVersion(documentationContext.getApiInfo().getVersion())
           .basePath(adjuster.adjustedPath(ROOT))
           .resourcePath(resourcePath)
-          .produces(produces)
-          .consumes(consumes)
-          .host(host)
-          .protocols(protocols)
+          .produces(new LinkedHashSet<>(documentationContext.getProduces()))
+          .consumes(new LinkedHashSet<>(documentationContext.getConsumes()))
+          .host(documentationContext.getHost())
+          .protocols(new LinkedHashSet<>(documentationContext.getProtocols()))
           .securityReferences(securityReferences)
-          .apis(sortedApis)
-          .models(models)
-          .modelSpecifications(modelNamesRegistry.modelsByName())
+          .apis(scan.apis)
+          .models(scan.models)
+          .modelSpecifications(modelSpecifications)
           .modelNamesRegistry(modelNamesRegistry)
           .position(position++)
           .availableTags(documentationContext.getTags());
@@ -202,9 +223,71 @@ public class ApiListingScanner {
           new LinkedList<>());
       apiListingMap.get(resourceGroup.getGroupName()).add(pluginsManager.apiListing(apiListingContext));
     }
+    state.replace(resourceGroupScans);
     return apiListingMap;
   }
 
+  @SuppressWarnings("ParameterNumber")
+  private ResourceGroupScan read(
+      ResourceGroup resourceGroup,
+      DocumentationContext documentationContext,
+      List<RequestMappingContext> requestMappings,
+      Collection<ApiDescription> additionalListings,
+      Map<String, Set<springfox.documentation.schema.Model>> globalModelMap,
+      boolean legacyModels,
+      ModelScanMemo modelMemo) {
+    Set<ApiDescription> apiDescriptions = new HashSet<>();
+    List<ModelSpecification> specifications = new ArrayList<>();
+    Map<String, Set<springfox.documentation.schema.Model>> knownModels = new HashMap<>();
+
+    final Map<String, springfox.documentation.schema.Model> models = new LinkedHashMap<>();
+    for (RequestMappingContext each : sortedByMethods(requestMappings)) {
+      Map<String, Set<springfox.documentation.schema.Model>> currentModelMap = legacyModels
+          ? apiModelReader.read(each.withKnownModels(globalModelMap), modelMemo)
+          : new HashMap<>();
+      modelSpecificationReader.read(each.withKnownModels(globalModelMap), modelMemo)
+          .stream()
+          .filter(m -> m.key().isPresent())
+          .forEach(specifications::add);
+      currentModelMap.values().forEach(list -> {
+        for (springfox.documentation.schema.Model model : list) {
+          models.put(
+              model.getName(),
+              model);
+        }
+      });
+      globalModelMap.putAll(currentModelMap);
+      knownModels.putAll(currentModelMap);
+      apiDescriptions.addAll(apiDescriptionReader.read(each.withKnownModels(currentModelMap)));
+    }
+
+    List<ApiDescription> additional = additionalListings.stream()
+        .filter(
+            belongsTo(resourceGroup.getGroupName())
+                .and(onlySelectedApis(documentationContext)))
+        .collect(toList());
+
+    apiDescriptions.addAll(additional);
+
+    List<ApiDescription> sortedApis = apiDescriptions.stream()
+        .sorted(documentationContext.getApiDescriptionOrdering()).collect(toList());
+
+    return new ResourceGroupScan(resourceGroup, sortedApis, models, knownModels, specifications);
+  }
+
+  private static Map<String, ModelSpecification> modelsOf(
+      List<ModelSpecification> specifications,
+      ModelNamesRegistry modelNamesRegistry,
+      Map<String, ModelSpecification> modelsByName) {
+    Map<String, ModelSpecification> models = new HashMap<>();
+    for (ModelSpecification each : specifications) {
+      each.key()
+          .flatMap(modelNamesRegistry::nameByKey)
+          .ifPresent(name -> models.putIfAbsent(name, modelsByName.get(name)));
+    }
+    return models;
+  }
+
   private Predicate<ApiDescription> onlySelectedApis(final DocumentationContext context) {
     return input -> context.getApiSelector().getPathSelector().test(input.getPath());
   }
@@ -212,4 +295,28 @@ public class ApiListingScanner {
   private Iterable<RequestMappingContext> sortedByMethods(List<RequestMappingContext> contexts) {
     return contexts.stream().sorted(methodComparator()).collect(toList());
   }
-}
\ No newline at end of file
+
+  /**
+   * What was read for one resource group: its api descriptions, its models and the models it made known.
+   */
+  static final class ResourceGroupScan {
+    private final ResourceGroup resourceGroup;
+    private final List<ApiDescription> apis;
+    private final Map<String, springfox.documentation.schema.Model> models;
+    private final Map<String, Set<springfox.documentation.schema.Model>> knownModels;
+    private final List<ModelSpecification> specifications;
+
+    ResourceGroupScan(
+        ResourceGroup resourceGroup,
+        List<ApiDescription> apis,
+        Map<String, springfox.documentation.schema.Model> models,
+        Map<String, Set<springfox.documentation.schema.Model>> knownModels,
+        List<ModelSpecification> specifications) {
+      this.resourceGroup = resourceGroup;
+      this.apis = apis;
+      this.models = models;
+      this.knownModels = knownModels;
+      this.specifications = specifications;
+    }
+  }
+}
@@ -64,8 +64,19 @@ public class ApiModelReader {
     this.typeNameExtractor = typeNameExtractor;
   }
 
-  @SuppressWarnings("rawtypes")
   public Map<String, Set<springfox.documentation.schema.Model>> read(RequestMappingContext context) {
+    return read(context, new ModelScanMemo());
+  }
+
+  /**
+   * @param context the request mapping
+   * @param memo    the model contexts already read during the scan of the current group
+   * @return the models of the request mapping, by parameter
+   */
+  @SuppressWarnings("rawtypes")
+  public Map<String, Set<springfox.documentation.schema.Model>> read(
+      RequestMappingContext context,
+      ModelScanMemo memo) {
     Map<String, Set<springfox.documentation.schema.Model>> mergedModelMap = new TreeMap<>();
 
     Map<String, springfox.documentation.schema.Model> uniqueModels = new HashMap<>();
@@ -74,7 +85,7 @@ public class ApiModelReader {
     UniqueTypeNameAdapter adapter = new TypeNameIndexingAdapter();
 
     Set<Class> ignorableTypes = context.getIgnorableParameterTypes();
-    Set<ModelContext> modelContexts = pluginsManager.modelContexts(context);
+    Set<ModelContext> modelContexts = memo.modelContexts(context, pluginsManager::modelContexts);
 
     for (Map.Entry<String, Set<springfox.documentation.schema.Model>> entry : context.getModelMap().entrySet()) {
       entry.getValue().stream()
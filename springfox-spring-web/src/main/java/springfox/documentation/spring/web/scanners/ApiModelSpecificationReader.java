@@ -30,19 +30,33 @@ public class ApiModelSpecificationReader {
   }
 
   public Set<ModelSpecification> read(RequestMappingContext context) {
+    return read(context, new ModelScanMemo());
+  }
+
+  /**
+   * @param context the request mapping
+   * @param memo    the model contexts and specifications already read during the scan of the current group
+   * @return the specifications of the models of the request mapping and of their dependencies
+   */
+  public Set<ModelSpecification> read(RequestMappingContext context, ModelScanMemo memo) {
     Set<ModelSpecification> specifications = new HashSet<>();
-    Set<ModelContext> modelContexts = pluginsManager.modelContexts(context);
-    for (ModelContext each : modelContexts) {
-      markIgnorablesAsHasSeen(
-          context.getIgnorableParameterTypes(),
-          each);
-      modelProvider.modelSpecificationsFor(each)
-          .ifPresent(specifications::add);
-      specifications.addAll(modelProvider.modelDependenciesSpecifications(each));
+    for (ModelContext each : memo.modelContexts(context, pluginsManager::modelContexts)) {
+      specifications.addAll(memo.specifications(each, modelContext -> read(context, modelContext)));
     }
     return specifications;
   }
 
+  private Set<ModelSpecification> read(RequestMappingContext context, ModelContext modelContext) {
+    markIgnorablesAsHasSeen(
+        context.getIgnorableParameterTypes(),
+        modelContext);
+    Set<ModelSpecification> specifications = new HashSet<>();
+    modelProvider.modelSpecificationsFor(modelContext)
+        .ifPresent(specifications::add);
+    specifications.addAll(modelProvider.modelDependenciesSpecifications(modelContext));
+    return specifications;
+  }
+
   private void markIgnorablesAsHasSeen(
       Set<Class> ignorableParameterTypes,
       ModelContext modelContext) {
@@ -20,31 +20,315 @@ package springfox.documentation.spring.web.scanners;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import springfox.documentation.service.Operation;
 import springfox.documentation.spi.service.contexts.RequestMappingContext;
 import springfox.documentation.spring.web.OperationCachingEquivalence;
+import springfox.documentation.spring.web.readers.operation.CachingOperationNameGenerator;
+import springfox.documentation.spring.web.readers.operation.CachingOperationNameGenerator.Reservation;
 import springfox.documentation.spring.web.readers.operation.OperationReader;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+/**
+ * Caches the operations read for each request mapping, so that handlers shared by several documentation groups
+ * are only read once. Each mapping is read once even when groups are scanned in parallel, and once the cache holds
+ * {@code maxSize} mappings new ones are read without being kept.
+ * <p>
+ * Scans {@link #recording(Runnable) recorded} on several threads reserve the names of the operations they read, so
+ * that the names can be {@link #generateReservedNames(List) generated} afterwards in the order the scans would have
+ * run in one after the other.
+ */
 @Component
 @Qualifier("cachedOperations")
 public class CachingOperationReader implements OperationReader {
-  private final Map<OperationCachingEquivalence.Wrapper, List<Operation>> cache;
-  private final Function<OperationCachingEquivalence.Wrapper, List<Operation>> lookup;
+  public static final int DEFAULT_MAX_SIZE = 10000;
+
+  private final OperationReader delegate;
+  private final int maxSize;
+  private final OperationCachingEquivalence equivalence = new OperationCachingEquivalence();
+  private final ConcurrentMap<OperationCachingEquivalence.Wrapper, Load> cache = new ConcurrentHashMap<>();
+  private final ThreadLocal<List<Load>> recorded = new ThreadLocal<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder loads = new LongAdder();
+  private final LongAdder loadTimeNanos = new LongAdder();
+  private CachingOperationNameGenerator nameGenerator;
+
+  public CachingOperationReader(OperationReader delegate) {
+    this(delegate, DEFAULT_MAX_SIZE);
+  }
 
+  /**
+   * @param delegate reads the operations of a request mapping
+   * @param maxSize  the number of request mappings kept, a negative value keeps them all
+   */
   @Autowired
-  public CachingOperationReader(@Qualifier("default") final OperationReader delegate) {
-    cache = new HashMap<>();
-    lookup = (key) -> delegate.read(key.get());
+  public CachingOperationReader(
+      @Qualifier("default") OperationReader delegate,
+      @Value("${springfox.documentation.operation-cache.max-size:" + DEFAULT_MAX_SIZE + "}") int maxSize) {
+    this.delegate = delegate;
+    this.maxSize = maxSize;
   }
 
   @Override
   public List<Operation> read(RequestMappingContext outerContext) {
-    return cache.computeIfAbsent(new OperationCachingEquivalence().wrap(outerContext), lookup);
+    OperationCachingEquivalence.Wrapper key = equivalence.wrap(outerContext);
+    Load cached = cache.get(key);
+    if (cached != null) {
+      hits.increment();
+      return get(key, record(cached));
+    }
+    misses.increment();
+    Load load = new Load(outerContext);
+    if (maxSize >= 0 && cache.size() >= maxSize) {
+      return get(key, record(load));
+    }
+    cached = cache.putIfAbsent(key, load);
+    return get(key, record(cached != null ? cached : load));
+  }
+
+  /**
+   * Runs a scan, reserving the names of the operations it reads instead of generating them. Nothing but the scans
+   * recorded together may read operations until their names are generated.
+   *
+   * @param scan the scan
+   * @return what the scan read, in order
+   */
+  public Reads recording(Runnable scan) {
+    List<Load> reads = new ArrayList<>();
+    recorded.set(reads);
+    try {
+      scan.run();
+    } finally {
+      recorded.remove();
+    }
+    return new Reads(reads);
+  }
+
+  /**
+   * Generates the names reserved by the recorded scans as if the scans had run one after the other in the given
+   * order: the operations of a request mapping are named when a scan reads them first. The cached operations are
+   * renamed, the ones the scans returned have to be renamed with {@link #rename(List, Map, Comparator)}.
+   *
+   * @param reads what each scan read, in the order the scans are meant to run in
+   * @return the generated name of each reserved name
+   */
+  public Map<String, String> generateReservedNames(List<Reads> reads) {
+    List<Reservation> reserved = new ArrayList<>();
+    Set<Load> named = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (Reads each : reads) {
+      for (Load load : each.loads) {
+        if (named.add(load)) {
+          reserved.addAll(load.reservations);
+        }
+      }
+    }
+    if (reserved.isEmpty() || nameGenerator == null) {
+      return Collections.emptyMap();
+    }
+    Map<String, String> names = nameGenerator.generate(reserved);
+    for (Load each : named) {
+      each.rename(names);
+    }
+    return names;
+  }
+
+  /**
+   * Replaces the operations with reserved names by copies with the generated names, in place, and sorts them again.
+   *
+   * @param operations the operations, left alone when none of them has a reserved name
+   * @param names      the generated name of each reserved name
+   * @param ordering   the ordering of the operations
+   */
+  public static void rename(List<Operation> operations, Map<String, String> names, Comparator<Operation> ordering) {
+    if (operations.stream().noneMatch(each -> names.containsKey(each.getUniqueId()))) {
+      return;
+    }
+    operations.replaceAll(each -> names.containsKey(each.getUniqueId())
+                                  ? each.withUniqueId(names.get(each.getUniqueId()))
+                                  : each);
+    operations.sort(ordering);
+  }
+
+  /**
+   * Drops every cached request mapping; the counters are kept.
+   */
+  public void clear() {
+    cache.clear();
+  }
+
+  /**
+   * Drops the cached request mappings matching the predicate, e.g. the ones of controllers that were registered again.
+   * The names of their operations are released, so that the operations read again get the same names if nothing
+   * else took them in between.
+   *
+   * @param requestMappings the request mappings to read again
+   */
+  public void invalidate(Predicate<RequestMappingContext> requestMappings) {
+    List<String> names = new ArrayList<>();
+    cache.entrySet().removeIf(entry -> {
+      if (!requestMappings.test(entry.getKey().get())) {
+        return false;
+      }
+      names.addAll(entry.getValue().names());
+      return true;
+    });
+    if (nameGenerator != null) {
+      nameGenerator.release(names);
+    }
+  }
+
+  public int size() {
+    return cache.size();
+  }
+
+  /**
+   * @return the number of reads answered from the cache, including reads that waited for another thread
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * @return the number of reads that found nothing in the cache
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * @return the number of times the operations were read by the delegate
+   */
+  public long getLoadCount() {
+    return loads.sum();
+  }
+
+  public long getTotalLoadTimeNanos() {
+    return loadTimeNanos.sum();
+  }
+
+  /**
+   * @param nameGenerator reserves the names of the operations read by recorded scans
+   */
+  @Autowired(required = false)
+  public void setNameGenerator(CachingOperationNameGenerator nameGenerator) {
+    this.nameGenerator = nameGenerator;
+  }
+
+  private Load record(Load load) {
+    List<Load> reads = recorded.get();
+    if (reads != null) {
+      reads.add(load);
+    }
+    return load;
+  }
+
+  private List<Operation> load(RequestMappingContext context, List<Reservation> reservations) {
+    long start = System.nanoTime();
+    try {
+      if (nameGenerator != null && recorded.get() != null) {
+        return nameGenerator.reserving(reservations, () -> delegate.read(context));
+      }
+      return delegate.read(context);
+    } finally {
+      loads.increment();
+      loadTimeNanos.add(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Runs the task unless it already ran or is running on another thread, and waits for its result.
+   */
+  private List<Operation> get(OperationCachingEquivalence.Wrapper key, Load task) {
+    task.run();
+    try {
+      return task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while reading operations", e);
+    } catch (ExecutionException e) {
+      cache.remove(key, task);
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /**
+   * What a recorded scan read, in order.
+   */
+  public static class Reads {
+    private final List<Load> loads;
+
+    Reads(List<Load> loads) {
+      this.loads = loads;
+    }
+  }
+
+  /**
+   * Reads the operations of a request mapping once, keeping the names it reserved when it ran in a recorded scan.
+   */
+  private class Load extends FutureTask<List<Operation>> {
+    private final List<Reservation> reservations;
+    private final Comparator<Operation> ordering;
+
+    Load(RequestMappingContext context) {
+      this(context, new ArrayList<>());
+    }
+
+    private Load(RequestMappingContext context, List<Reservation> reservations) {
+      super(() -> load(context, reservations));
+      this.reservations = reservations;
+      this.ordering = context.operationOrdering();
+    }
+
+    /**
+     * @return the names of the operations read, none while the read is not done or when it failed
+     */
+    List<String> names() {
+      if (!isDone()) {
+        return Collections.emptyList();
+      }
+      try {
+        return get().stream().map(Operation::getUniqueId).collect(Collectors.toList());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (ExecutionException e) {
+        // the read failed, it named nothing
+      }
+      return Collections.emptyList();
+    }
+
+    void rename(Map<String, String> names) {
+      if (reservations.isEmpty() || !isDone()) {
+        return;
+      }
+      try {
+        CachingOperationReader.rename(get(), names, ordering);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (ExecutionException e) {
+        // the read failed, nothing was cached
+      }
+    }
   }
 }
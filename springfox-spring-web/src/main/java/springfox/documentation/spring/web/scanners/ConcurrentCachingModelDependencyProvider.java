@@ -0,0 +1,61 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.scanners;
+
+import com.fasterxml.classmate.ResolvedType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import springfox.documentation.schema.ModelDependencyProvider;
+import springfox.documentation.spi.schema.contexts.ModelContext;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Caches the types each model context depends on in place of the {@code CachingModelDependencyProvider} of
+ * springfox-schema, once per model context even when groups are scanned in parallel.
+ */
+@Component
+@Primary
+@Qualifier("cachedModelDependencies")
+public class ConcurrentCachingModelDependencyProvider implements ModelDependencyProvider {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentCachingModelDependencyProvider.class);
+
+  private final SingleFlightCache<ModelContext, Set<ResolvedType>> dependencies;
+
+  @Autowired
+  public ConcurrentCachingModelDependencyProvider(@Qualifier("default") ModelDependencyProvider delegate) {
+    this.dependencies = new SingleFlightCache<>(delegate::dependentModels);
+  }
+
+  @Override
+  public Set<ResolvedType> dependentModels(ModelContext modelContext) {
+    try {
+      return dependencies.get(modelContext);
+    } catch (Exception e) {
+      LOGGER.warn("Exception calculating dependencies for model -> {}, {}", modelContext.description(), e.getMessage());
+      return new HashSet<>();
+    }
+  }
+}
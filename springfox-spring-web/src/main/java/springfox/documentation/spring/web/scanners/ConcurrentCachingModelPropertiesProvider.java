@@ -0,0 +1,88 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.scanners;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.TypeResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import springfox.documentation.schema.ModelProperty;
+import springfox.documentation.schema.PropertySpecification;
+import springfox.documentation.schema.configuration.ObjectMapperConfigured;
+import springfox.documentation.schema.property.ModelPropertiesProvider;
+import springfox.documentation.spi.schema.contexts.ModelContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Caches the properties of each model context in place of the {@code CachingModelPropertiesProvider} of
+ * springfox-schema, once per model context even when groups are scanned in parallel.
+ */
+@Component
+@Primary
+@Qualifier("cachedModelProperties")
+public class ConcurrentCachingModelPropertiesProvider implements ModelPropertiesProvider {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentCachingModelPropertiesProvider.class);
+
+  private final SingleFlightCache<ModelContext, List<ModelProperty>> properties;
+  private final SingleFlightCache<ModelContext, List<PropertySpecification>> specifications;
+
+  @Autowired
+  public ConcurrentCachingModelPropertiesProvider(
+      TypeResolver resolver,
+      @Qualifier("optimized") ModelPropertiesProvider delegate) {
+    this.properties = new SingleFlightCache<>(
+        context -> delegate.propertiesFor(context.resolvedType(resolver), context));
+    this.specifications = new SingleFlightCache<>(
+        context -> delegate.propertySpecificationsFor(context.resolvedType(resolver), context));
+  }
+
+  @Override
+  public List<ModelProperty> propertiesFor(ResolvedType type, ModelContext givenContext) {
+    try {
+      return properties.get(givenContext);
+    } catch (Exception e) {
+      LOGGER.warn("Exception calculating properties for model({}) -> {}. {}",
+          type, givenContext.description(), e.getMessage());
+      return new ArrayList<>();
+    }
+  }
+
+  @Override
+  public List<PropertySpecification> propertySpecificationsFor(ResolvedType type, ModelContext givenContext) {
+    try {
+      return specifications.get(givenContext);
+    } catch (Exception e) {
+      LOGGER.warn("Exception calculating properties for model({}) -> {}. {}",
+          type, givenContext.description(), e.getMessage());
+      return new ArrayList<>();
+    }
+  }
+
+  @Override
+  public void onApplicationEvent(ObjectMapperConfigured event) {
+    // the delegate is a listener itself, nothing cached here is read before the object mapper is configured
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.scanners;
+
+import com.fasterxml.classmate.ResolvedType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import springfox.documentation.schema.Model;
+import springfox.documentation.schema.ModelProvider;
+import springfox.documentation.schema.ModelSpecification;
+import springfox.documentation.schema.ModelSpecificationProvider;
+import springfox.documentation.spi.schema.contexts.ModelContext;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Caches the models read for each model context like the {@code CachingModelProvider} of springfox-schema, which it
+ * takes the place of, but may be used by groups scanned in parallel: each model is read once, concurrent readers of
+ * the same model context wait for it, readers of different ones do not wait for each other.
+ */
+@Component
+@Primary
+@Qualifier("cachedModels")
+public class ConcurrentCachingModelProvider implements ModelProvider, ModelSpecificationProvider {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentCachingModelProvider.class);
+
+  private final ModelProvider delegate;
+  private final ModelSpecificationProvider specificationDelegate;
+  private final SingleFlightCache<ModelContext, Optional<Model>> models;
+  private final SingleFlightCache<ModelContext, Optional<ModelSpecification>> specifications;
+
+  @Autowired
+  public ConcurrentCachingModelProvider(
+      @Qualifier("default") ModelProvider delegate,
+      @Qualifier("default") ModelSpecificationProvider specificationDelegate) {
+    this.delegate = delegate;
+    this.specificationDelegate = specificationDelegate;
+    this.models = new SingleFlightCache<>(delegate::modelFor);
+    this.specifications = new SingleFlightCache<>(specificationDelegate::modelSpecificationsFor);
+  }
+
+  @Override
+  public Optional<Model> modelFor(ModelContext modelContext) {
+    try {
+      return models.get(modelContext);
+    } catch (Exception e) {
+      LOGGER.warn("Failed to get the model for -> {}. {}", modelContext.description(), e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public Map<ResolvedType, Model> dependencies(ModelContext modelContext) {
+    return delegate.dependencies(modelContext);
+  }
+
+  @Override
+  public Optional<ModelSpecification> modelSpecificationsFor(ModelContext modelContext) {
+    try {
+      return specifications.get(modelContext);
+    } catch (Exception e) {
+      LOGGER.warn("Failed to get the model for -> {}. {}", modelContext.description(), e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public Set<ModelSpecification> modelDependenciesSpecifications(ModelContext modelContext) {
+    return specificationDelegate.modelDependenciesSpecifications(modelContext);
+  }
+}
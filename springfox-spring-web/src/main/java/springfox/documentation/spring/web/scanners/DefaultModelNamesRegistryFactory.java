@@ -33,6 +33,7 @@ public class DefaultModelNamesRegistryFactory implements ModelNamesRegistryFacto
     private final Map<Set<ResolvedType>, String> validationSuffixes = new HashMap<>();
     private final Map<ModelKey, String> requestResponseSuffixes = new HashMap<>();
     private final Map<ModelKey, String> modelKeyToName;
+    private final Map<String, ModelSpecification> modelsByName;
 
     DefaultModelNamesRegistry(ModelSpecificationRegistry modelRegistry) {
       this.modelRegistry = modelRegistry;
@@ -52,6 +53,7 @@ public class DefaultModelNamesRegistryFactory implements ModelNamesRegistryFacto
                       k,
                       ""))));
       adjustForNameCollisions();
+      modelsByName = Collections.unmodifiableMap(namedModels());
     }
 
     private void adjustForNameCollisions() {
@@ -131,6 +133,10 @@ public class DefaultModelNamesRegistryFactory implements ModelNamesRegistryFacto
 
     @Override
     public Map<String, ModelSpecification> modelsByName() {
+      return modelsByName;
+    }
+
+    private Map<String, ModelSpecification> namedModels() {
       Map<String, ModelSpecification> map = new HashMap<>();
       modelKeyToName.forEach((key, value) -> map.putIfAbsent(
           value,
@@ -0,0 +1,85 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.scanners;
+
+import springfox.documentation.schema.ModelSpecification;
+import springfox.documentation.spi.schema.contexts.ModelContext;
+import springfox.documentation.spi.service.contexts.OperationModelContextsBuilder;
+import springfox.documentation.spi.service.contexts.RequestMappingContext;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Remembers, for the duration of the scan of one documentation group, which request mappings already went through
+ * the operation model plugins and the model specifications read for each model context. The model readers then only
+ * run the plugins once per request mapping, and only walk the type graph of a model once however many request
+ * mappings use it.
+ * <p>
+ * The memo only lives as long as the scan of one group, it is not shared across groups: a model read for one group
+ * is read again for every other group that uses it. Model contexts are equal when they share the type, view,
+ * validation groups, documentation group and naming strategy, and even a key without the group would not be enough,
+ * since each docket brings its own alternate type rules and ignorable types, which change the specification read
+ * for the same type. Across groups only the caching model providers avoid some of the work, and they are keyed by
+ * the same model contexts.
+ * <p>
+ * Not thread safe, a group is scanned on a single thread.
+ */
+public class ModelScanMemo {
+  private final Set<OperationModelContextsBuilder> collected = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final Map<ModelContext, Set<ModelSpecification>> specifications = new HashMap<>();
+
+  /**
+   * The model contexts are collected by the reader the first time, later calls only copy them out of the builder
+   * the copies of a request mapping share; readers mark the types they walk as seen, so each needs its own copies.
+   *
+   * @param context the request mapping, or any of its copies
+   * @param reader  runs the operation model plugins of the request mapping
+   * @return new copies of the model contexts of the request mapping
+   */
+  public Set<ModelContext> modelContexts(
+      RequestMappingContext context,
+      Function<RequestMappingContext, Set<ModelContext>> reader) {
+    if (collected.add(context.operationModelsBuilder())) {
+      return reader.apply(context);
+    }
+    return context.operationModelsBuilder().build();
+  }
+
+  /**
+   * @param context a model context
+   * @param reader  reads the specification of the model and of its dependencies
+   * @return the specifications of the model and its dependencies, read the first time an equal context is seen
+   */
+  public Set<ModelSpecification> specifications(
+      ModelContext context,
+      Function<ModelContext, Set<ModelSpecification>> reader) {
+    Set<ModelSpecification> read = specifications.get(context);
+    if (read == null) {
+      read = reader.apply(context);
+      specifications.put(context, read);
+    }
+    return read;
+  }
+}
@@ -15,11 +15,17 @@ import static org.slf4j.LoggerFactory.getLogger;
 public class ModelSpecificationRegistryBuilder {
   private static final Logger LOGGER = getLogger(ModelSpecificationRegistryBuilder.class);
   private final MultiValueMap<QualifiedModelName, ModelSpecification> modelByQName = new LinkedMultiValueMap<>();
+  private static final int FINGERPRINT_ROUNDS = 3;
   private final Map<ModelKey, ModelSpecification> modelByKey = new HashMap<>();
+  private boolean conflictingKeys;
 
   public void add(ModelSpecification modelSpecification) {
     modelSpecification.key().ifPresent(key -> {
-      if (!modelByKey.containsKey(key)) {
+      ModelSpecification existing = modelByKey.get(key);
+      if (existing != null && !existing.equals(modelSpecification)) {
+        conflictingKeys = true;
+      }
+      if (existing == null) {
         modelByKey.put(key, modelSpecification);
         if (!modelByQName.containsKey(key.getQualifiedModelName())) {
           modelByQName.add(key.getQualifiedModelName(), modelSpecification);
@@ -36,36 +42,35 @@ public class ModelSpecificationRegistryBuilder {
     modelSpecifications.forEach(this::add);
   }
 
+  /**
+   * @return true if different models were added with the same key, e.g. nested classes with the same simple name in
+   * different outer classes, only the first of which is kept
+   */
+  public boolean hasConflictingKeys() {
+    return conflictingKeys;
+  }
+
   public ModelSpecificationRegistry build() {
     MultiValueMap<ModelKey, ModelKey> referenceKeyToEffectiveKey = new LinkedMultiValueMap<>();
-    HashMap<List<ModelKey>, Boolean> seen = new HashMap<>();
+    Map<KeyPair, Boolean> seen = new HashMap<>();
+    Map<ModelKey, Integer> fingerprints = fingerprints();
+    EquivalenceClasses equivalenceClasses = new EquivalenceClasses();
 
     for (Map.Entry<QualifiedModelName, List<ModelSpecification>> eachEntry : modelByQName.entrySet()) {
       List<ModelSpecification> models = eachEntry.getValue();
       if (models.size() > 1) {
         LOGGER.trace(
             "Starting comparison of model with name {}. Models to compare {}", eachEntry.getKey(), models.size());
-        for (int i = 0; i < (models.size() - 1); i++) {
-          for (int j = 1; j < models.size(); j++) {
-            if (models.get(i).key().isPresent() && models.get(j).key().isPresent()) {
-              ModelKey first = models.get(j).key().get();
-              ModelKey second = models.get(i).key().get();
-              seen.putIfAbsent(Arrays.asList(second, first), true);
-              if (sameModel(models.get(i), models.get(j), referenceKeyToEffectiveKey, seen)) {
-                LOGGER.trace("Models were equivalent {} and {}", second, first);
-                referenceKeyToEffectiveKey.add(second, first);
-                referenceKeyToEffectiveKey.add(first, second);
-              } else {
-                LOGGER.trace("Models were different {} and {}", second, first);
-              }
-            } else {
-              LOGGER.trace(
-                  "Models were different {} and {}",
-                  models.get(i).key().orElse(null),
-                  models.get(j).key().orElse(null));
-            }
+        Map<Integer, List<ModelSpecification>> representativesByFingerprint = new HashMap<>();
+        for (ModelSpecification model : models) {
+          List<ModelSpecification> representatives = representativesByFingerprint.computeIfAbsent(
+              fingerprints.get(modelKey(model)),
+              fingerprint -> new ArrayList<>());
+          if (!joinEquivalent(model, representatives, equivalenceClasses, referenceKeyToEffectiveKey, seen)) {
+            representatives.add(model);
           }
         }
+        addEquivalentPairs(models, equivalenceClasses, referenceKeyToEffectiveKey);
         LOGGER.trace("Done comparison of models with name {}", eachEntry.getKey());
       }
     }
@@ -74,11 +79,136 @@ public class ModelSpecificationRegistryBuilder {
         referenceKeyToEffectiveKey);
   }
 
+  /**
+   * Compares the model with one representative of each equivalence class in its fingerprint bucket, models with a
+   * different fingerprint can never be the same model.
+   */
+  private boolean joinEquivalent(
+      ModelSpecification model,
+      List<ModelSpecification> representatives,
+      EquivalenceClasses equivalenceClasses,
+      MultiValueMap<ModelKey, ModelKey> referenceKeyToEffectiveKey,
+      Map<KeyPair, Boolean> seen) {
+    ModelKey first = modelKey(model);
+    for (ModelSpecification representative : representatives) {
+      ModelKey second = modelKey(representative);
+      seen.putIfAbsent(new KeyPair(second, first), true);
+      if (sameModel(representative, model, referenceKeyToEffectiveKey, seen)) {
+        LOGGER.trace("Models were equivalent {} and {}", second, first);
+        equivalenceClasses.union(second, first);
+        return true;
+      }
+      LOGGER.trace("Models were different {} and {}", second, first);
+    }
+    return false;
+  }
+
+  /**
+   * Records every pair of equivalent models with the same name in both directions. Every model but the first and the
+   * last of the name is also recorded as equivalent to itself, as the pairwise comparison always did, which keeps it
+   * out of its own validation group variants.
+   */
+  private void addEquivalentPairs(
+      List<ModelSpecification> models,
+      EquivalenceClasses equivalenceClasses,
+      MultiValueMap<ModelKey, ModelKey> referenceKeyToEffectiveKey) {
+    Map<ModelKey, List<ModelKey>> classes = new LinkedHashMap<>();
+    for (ModelSpecification model : models) {
+      ModelKey key = modelKey(model);
+      classes.computeIfAbsent(equivalenceClasses.find(key), root -> new ArrayList<>()).add(key);
+    }
+    for (List<ModelKey> equivalent : classes.values()) {
+      for (ModelKey first : equivalent) {
+        for (ModelKey second : equivalent) {
+          if (!first.equals(second)) {
+            referenceKeyToEffectiveKey.add(first, second);
+          }
+        }
+      }
+    }
+    for (int index = 1; index < models.size() - 1; index++) {
+      ModelKey key = modelKey(models.get(index));
+      referenceKeyToEffectiveKey.add(key, key);
+    }
+  }
+
+  /**
+   * Structural fingerprints of all the registered models, such that equivalent models always share a fingerprint.
+   * References are folded in bottom up, one level per round, from the fingerprints of the previous round, so cyclic
+   * models need no special treatment.
+   */
+  private Map<ModelKey, Integer> fingerprints() {
+    Map<ModelKey, Integer> fingerprints = new HashMap<>();
+    for (int round = 0; round < FINGERPRINT_ROUNDS; round++) {
+      Map<ModelKey, Integer> references = fingerprints;
+      Map<ModelKey, Integer> next = new HashMap<>();
+      modelByKey.forEach((key, model) -> next.put(key, fingerprint(model, references)));
+      fingerprints = next;
+    }
+    return fingerprints;
+  }
+
+  private int fingerprint(
+      ModelSpecification model,
+      Map<ModelKey, Integer> references) {
+    if (model == null) {
+      return 0;
+    }
+    int hash = Objects.hash(model.getScalar().orElse(null), model.getFacets().orElse(null), model.getName());
+    hash = 31 * hash + model.getCompound()
+                           .map(compound -> fingerprint(compound, references))
+                           .orElse(0);
+    hash = 31 * hash + model.getCollection()
+                           .map(collection -> fingerprint(collection.getModel(), references))
+                           .orElse(0);
+    hash = 31 * hash + model.getMap()
+                           .map(map -> 31 * fingerprint(map.getKey(), references)
+                               + fingerprint(map.getValue(), references))
+                           .orElse(0);
+    return 31 * hash + model.getReference()
+                           .map(reference -> references.getOrDefault(reference.getKey(), 1))
+                           .orElse(0);
+  }
+
+  private int fingerprint(
+      CompoundModelSpecification compound,
+      Map<ModelKey, Integer> references) {
+    int properties = 0;
+    for (PropertySpecification property : compound.getProperties()) {
+      properties += 31 * Objects.hash(
+          property.getPosition(),
+          property.getName(),
+          property.getDescription(),
+          property.getFacets(),
+          property.getNullable(),
+          property.getRequired(),
+          property.getReadOnly(),
+          property.getWriteOnly(),
+          property.getDeprecated(),
+          property.getAllowEmptyValue(),
+          property.getHidden(),
+          property.getExample(),
+          property.getDefaultValue(),
+          property.getXml(),
+          property.getVendorExtensions())
+          + fingerprint(property.getType(), references);
+    }
+    return 31 * properties + Objects.hash(
+        compound.getMaxProperties(),
+        compound.getMinProperties(),
+        compound.getDiscriminator());
+  }
+
+  private static ModelKey modelKey(ModelSpecification model) {
+    return model.key()
+                .orElseThrow(() -> new IllegalStateException("Only models with a key are registered"));
+  }
+
   private boolean sameModel(
       ModelSpecification first,
       ModelSpecification second,
       MultiValueMap<ModelKey, ModelKey> referenceKeyToEffectiveKey,
-      HashMap<List<ModelKey>, Boolean> seen) {
+      Map<KeyPair, Boolean> seen) {
     if (Objects.equals(first, second)) {
       return true;
     }
@@ -112,7 +242,7 @@ public class ModelSpecificationRegistryBuilder {
       CollectionSpecification first,
       CollectionSpecification second,
       MultiValueMap<ModelKey, ModelKey> referenceKeyToEffectiveKey,
-      HashMap<List<ModelKey>, Boolean> seen) {
+      Map<KeyPair, Boolean> seen) {
     if (first == second) {
       return true;
     }
@@ -131,7 +261,7 @@ public class ModelSpecificationRegistryBuilder {
       MapSpecification first,
       MapSpecification second,
       MultiValueMap<ModelKey, ModelKey> referenceKeyToEffectiveKey,
-      HashMap<List<ModelKey>, Boolean> seen) {
+      Map<KeyPair, Boolean> seen) {
     if (first == second) {
       return true;
     }
@@ -147,7 +277,7 @@ public class ModelSpecificationRegistryBuilder {
       CompoundModelSpecification first,
       CompoundModelSpecification second,
       MultiValueMap<ModelKey, ModelKey> referenceKeyToEffectiveKey,
-      HashMap<List<ModelKey>, Boolean> seen) {
+      Map<KeyPair, Boolean> seen) {
     if (first == second) {
       return true;
     }
@@ -155,13 +285,14 @@ public class ModelSpecificationRegistryBuilder {
       return false;
     }
     LOGGER.trace("Comparing compound specs {} and {}", first, second);
-    seen.put(Arrays.asList(first.getModelKey(), second.getModelKey()), true);
+    KeyPair pair = new KeyPair(first.getModelKey(), second.getModelKey());
+    seen.put(pair, true);
     boolean sameProperties = sameProperties(
         first.getProperties(),
         second.getProperties(),
         referenceKeyToEffectiveKey,
         seen);
-    seen.put(Arrays.asList(first.getModelKey(), second.getModelKey()), sameProperties);
+    seen.put(pair, sameProperties);
     return sameProperties &&
         Objects.equals(first.getMaxProperties(), second.getMaxProperties()) &&
         Objects.equals(first.getMinProperties(), second.getMinProperties()) &&
@@ -172,7 +303,7 @@ public class ModelSpecificationRegistryBuilder {
       Collection<PropertySpecification> first,
       Collection<PropertySpecification> second,
       MultiValueMap<ModelKey, ModelKey> referenceKeyToEffectiveKey,
-      HashMap<List<ModelKey>, Boolean> seen) {
+      Map<KeyPair, Boolean> seen) {
     if (first.size() != second.size()) {
       return false;
     }
@@ -205,7 +336,7 @@ public class ModelSpecificationRegistryBuilder {
       PropertySpecification first,
       PropertySpecification second,
       MultiValueMap<ModelKey, ModelKey> referenceKeyToEffectiveKey,
-      HashMap<List<ModelKey>, Boolean> seen) {
+      Map<KeyPair, Boolean> seen) {
     LOGGER.trace("Comparing property {}", first.getName());
     return first.getPosition() == second.getPosition() &&
         Objects.equals(first.getName(), second.getName()) &&
@@ -230,20 +361,22 @@ public class ModelSpecificationRegistryBuilder {
       ModelKey first,
       ModelKey second,
       MultiValueMap<ModelKey, ModelKey> referenceKeyToEffectiveKey,
-      HashMap<List<ModelKey>, Boolean> seen) {
+      Map<KeyPair, Boolean> seen) {
     if (first == second) {
       return true;
     }
     if (first == null || second == null) {
       return false;
     }
-    if (seen.containsKey(Arrays.asList(first, second))) {
-      return seen.get(Arrays.asList(first, second));
+    KeyPair pair = new KeyPair(first, second);
+    Boolean known = seen.get(pair);
+    if (known != null) {
+      return known;
     }
     LOGGER.trace("Comparing references {} and {}", first, second);
-    seen.put(Arrays.asList(first, second), true);
+    seen.put(pair, true);
     boolean isSame = sameModel(modelByKey.get(first), modelByKey.get(second), referenceKeyToEffectiveKey, seen);
-    seen.put(Arrays.asList(first, second), isSame);
+    seen.put(pair, isSame);
     if (isSame) {
       if (!referenceKeyToEffectiveKey.containsKey(first)) {
         referenceKeyToEffectiveKey.add(first, second);
@@ -255,6 +388,62 @@ public class ModelSpecificationRegistryBuilder {
     return isSame;
   }
 
+  private static final class KeyPair {
+    private final ModelKey first;
+    private final ModelKey second;
+    private final int hashCode;
+
+    KeyPair(ModelKey first, ModelKey second) {
+      this.first = first;
+      this.second = second;
+      this.hashCode = 31 * Objects.hashCode(first) + Objects.hashCode(second);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      KeyPair that = (KeyPair) o;
+      return Objects.equals(first, that.first) && Objects.equals(second, that.second);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  /**
+   * Union find over model keys, holding the classes of models found to be equivalent.
+   */
+  private static final class EquivalenceClasses {
+    private final Map<ModelKey, ModelKey> parents = new HashMap<>();
+
+    ModelKey find(ModelKey key) {
+      ModelKey current = key;
+      ModelKey parent = parents.getOrDefault(current, current);
+      while (!parent.equals(current)) {
+        ModelKey grandParent = parents.getOrDefault(parent, parent);
+        parents.put(current, grandParent);
+        current = parent;
+        parent = grandParent;
+      }
+      return current;
+    }
+
+    void union(ModelKey first, ModelKey second) {
+      ModelKey firstRoot = find(first);
+      ModelKey secondRoot = find(second);
+      if (!firstRoot.equals(secondRoot)) {
+        parents.put(secondRoot, firstRoot);
+      }
+    }
+  }
+
   private static class DefaultModelSpecificationRegistry implements ModelSpecificationRegistry {
     private final Map<ModelKey, ModelSpecification> modelsLookupByKey;
     private final MultiValueMap<ModelKey, ModelKey> referenceKeyToEffectiveKeys;
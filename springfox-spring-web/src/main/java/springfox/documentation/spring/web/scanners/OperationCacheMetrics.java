@@ -0,0 +1,67 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package springfox.documentation.spring.web.scanners;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the statistics of the {@link CachingOperationReader}, following the naming of the micrometer cache
+ * metrics, under the cache tag {@value #CACHE_NAME}.
+ */
+public class OperationCacheMetrics implements MeterBinder {
+  public static final String CACHE_NAME = "springfox.operations";
+  private static final String CACHE = "cache";
+
+  private final CachingOperationReader operationReader;
+
+  public OperationCacheMetrics(CachingOperationReader operationReader) {
+    this.operationReader = operationReader;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("cache.size", operationReader, CachingOperationReader::size)
+        .tag(CACHE, CACHE_NAME)
+        .description("The number of request mappings whose operations are cached")
+        .register(registry);
+    FunctionCounter.builder("cache.gets", operationReader, CachingOperationReader::getHitCount)
+        .tags(CACHE, CACHE_NAME, "result", "hit")
+        .description("The number of times the operations of a request mapping were found in the cache")
+        .register(registry);
+    FunctionCounter.builder("cache.gets", operationReader, CachingOperationReader::getMissCount)
+        .tags(CACHE, CACHE_NAME, "result", "miss")
+        .description("The number of times the operations of a request mapping were not found in the cache")
+        .register(registry);
+    FunctionTimer.builder(
+        "cache.load",
+        operationReader,
+        CachingOperationReader::getLoadCount,
+        CachingOperationReader::getTotalLoadTimeNanos,
+        TimeUnit.NANOSECONDS)
+        .tag(CACHE, CACHE_NAME)
+        .description("The time spent reading the operations of request mappings")
+        .register(registry);
+  }
+}
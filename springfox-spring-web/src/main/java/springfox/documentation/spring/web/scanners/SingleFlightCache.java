@@ -0,0 +1,94 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.scanners;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Computes the value of each key once, however many threads ask for it at the same time; the others wait for the
+ * first. A lookup that fails is not kept, the next request for the key looks it up again. A lookup asking for its own
+ * key again is answered without the cache instead of waiting for itself.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+class SingleFlightCache<K, V> {
+  private final ConcurrentMap<K, Lookup> cache = new ConcurrentHashMap<>();
+  private final Function<K, V> lookup;
+
+  SingleFlightCache(Function<K, V> lookup) {
+    this.lookup = lookup;
+  }
+
+  V get(K key) {
+    Lookup cached = cache.get(key);
+    if (cached == null) {
+      Lookup created = new Lookup(key);
+      cached = cache.putIfAbsent(key, created);
+      if (cached == null) {
+        cached = created;
+      }
+    }
+    if (cached.runner == Thread.currentThread()) {
+      return lookup.apply(key);
+    }
+    cached.runOnce();
+    try {
+      return cached.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for " + key, e);
+    } catch (ExecutionException e) {
+      cache.remove(key, cached);
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private class Lookup extends FutureTask<V> {
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile Thread runner;
+
+    Lookup(K key) {
+      super(() -> lookup.apply(key));
+    }
+
+    void runOnce() {
+      if (started.compareAndSet(false, true)) {
+        runner = Thread.currentThread();
+        try {
+          run();
+        } finally {
+          runner = null;
+        }
+      }
+    }
+  }
+}
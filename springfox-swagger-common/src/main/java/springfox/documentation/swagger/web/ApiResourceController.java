@@ -21,15 +21,22 @@ package springfox.documentation.swagger.web;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import springfox.documentation.annotations.ApiIgnore;
+import springfox.documentation.spring.web.DocumentationCache;
+import springfox.documentation.spring.web.DocumentationStatus;
+import springfox.documentation.spring.web.EntityTags;
+import springfox.documentation.spring.web.json.JsonSerializer;
 
+import java.util.Collections;
 import java.util.List;
 
 @RestController
@@ -42,8 +49,14 @@ public class ApiResourceController {
   private SecurityConfiguration securityConfiguration;
   @Autowired(required = false)
   private UiConfiguration uiConfiguration;
+  @Autowired(required = false)
+  private DocumentationCache documentationCache;
+  @Autowired(required = false)
+  private JsonSerializer jsonSerializer;
 
   private final SwaggerResourcesProvider swaggerResources;
+  private volatile PrecomputedJson securityJson;
+  private volatile PrecomputedJson uiJson;
 
   @Autowired
   public ApiResourceController(
@@ -60,17 +73,64 @@ public class ApiResourceController {
   }
 
   @GetMapping(value = "/configuration/security", produces = MediaType.APPLICATION_JSON_VALUE)
-  public ResponseEntity<SecurityConfiguration> securityConfiguration() {
-    return new ResponseEntity<>(securityConfiguration, HttpStatus.OK);
+  public ResponseEntity<byte[]> securityConfiguration(
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    if (securityJson == null) {
+      securityJson = new PrecomputedJson(toJson(securityConfiguration), "security");
+    }
+    return conditionally(ifNoneMatch, securityJson);
   }
 
   @GetMapping(value = "/configuration/ui", produces = MediaType.APPLICATION_JSON_VALUE)
-  public ResponseEntity<UiConfiguration> uiConfiguration() {
-    return new ResponseEntity<>(uiConfiguration, HttpStatus.OK);
+  public ResponseEntity<byte[]> uiConfiguration(
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    if (uiJson == null) {
+      uiJson = new PrecomputedJson(toJson(uiConfiguration), "ui");
+    }
+    return conditionally(ifNoneMatch, uiJson);
   }
 
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-  public ResponseEntity<List<SwaggerResource>> swaggerResources() {
-    return new ResponseEntity<>(swaggerResources.get(), HttpStatus.OK);
+  public ResponseEntity<byte[]> swaggerResources(
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    PrecomputedJson resources = swaggerResources instanceof InMemorySwaggerResourcesProvider
+                                ? ((InMemorySwaggerResourcesProvider) swaggerResources).precomputed()
+                                : new PrecomputedJson(toJson(swaggerResources.get()), null);
+    return conditionally(ifNoneMatch, resources);
+  }
+
+  /**
+   * The scan status of every documentation group, useful when the documentation is scanned lazily or in the
+   * background.
+   */
+  @GetMapping(value = "/status", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<List<DocumentationStatus>> documentationStatus() {
+    if (documentationCache == null) {
+      return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+    }
+    return new ResponseEntity<>(documentationCache.statuses(), HttpStatus.OK);
+  }
+
+  private static ResponseEntity<byte[]> conditionally(String ifNoneMatch, PrecomputedJson payload) {
+    if (ifNoneMatch != null && EntityTags.matches(Collections.singletonList(ifNoneMatch), payload.getEntityTag())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(payload.getEntityTag())
+          .build();
+    }
+    return ResponseEntity.ok()
+        .eTag(payload.getEntityTag())
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(payload.getJson());
+  }
+
+  /**
+   * The configuration and the resources are written with the springfox serializer rather than the message converters
+   * of the application, so that the same bytes can be served to every request.
+   */
+  private byte[] toJson(Object value) {
+    if (jsonSerializer == null) {
+      jsonSerializer = new JsonSerializer(Collections.emptyList());
+    }
+    return jsonSerializer.toJsonBytes(value);
   }
 }
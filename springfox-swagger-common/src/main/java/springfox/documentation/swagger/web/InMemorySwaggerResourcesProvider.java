@@ -26,8 +26,8 @@ import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
-import springfox.documentation.service.Documentation;
 import springfox.documentation.spring.web.DocumentationCache;
+import springfox.documentation.spring.web.json.JsonSerializer;
 import springfox.documentation.spring.web.plugins.Docket;
 
 import java.util.ArrayList;
@@ -52,11 +52,20 @@ public class InMemorySwaggerResourcesProvider implements SwaggerResourcesProvide
     private boolean swagger2Available;
 
     private final DocumentationCache documentationCache;
+    private final JsonSerializer jsonSerializer;
+    private volatile Listing listing;
 
-    @Autowired
     public InMemorySwaggerResourcesProvider(
             Environment environment,
             DocumentationCache documentationCache) {
+        this(environment, documentationCache, new JsonSerializer(Collections.emptyList()));
+    }
+
+    @Autowired
+    public InMemorySwaggerResourcesProvider(
+            Environment environment,
+            DocumentationCache documentationCache,
+            JsonSerializer jsonSerializer) {
         swagger1Url = environment.getProperty("springfox.documentation.swagger.v1.path", "/api-docs");
         swagger2Url = fixup(environment.getProperty(
                 "springfox.documentation.swagger.v2.path",
@@ -65,6 +74,7 @@ public class InMemorySwaggerResourcesProvider implements SwaggerResourcesProvide
                 "springfox.documentation.open-api.v3.path",
                 "/v3/api-docs"));
         this.documentationCache = documentationCache;
+        this.jsonSerializer = jsonSerializer;
     }
 
     private String fixup(String path) {
@@ -76,13 +86,46 @@ public class InMemorySwaggerResourcesProvider implements SwaggerResourcesProvide
         return StringUtils.trimTrailingCharacter(path.replace("//", "/"), '/');
     }
 
+    /**
+     * @return a copy of the resources, which callers are free to modify
+     */
     @Override
     public List<SwaggerResource> get() {
         List<SwaggerResource> resources = new ArrayList<>();
+        for (SwaggerResource each : listing().resources) {
+            SwaggerResource copy = swaggerResource(each.getName(), each.getUrl());
+            copy.setSwaggerVersion(each.getSwaggerVersion());
+            resources.add(copy);
+        }
+        return resources;
+    }
+
+    /**
+     * @return the serialized resources, computed once per version of the documentation cache
+     */
+    public PrecomputedJson precomputed() {
+        return listing().json;
+    }
+
+    private Listing listing() {
+        DocumentationCache.Snapshot snapshot = documentationCache.snapshot();
+        Listing current = listing;
+        if (current == null || current.version != snapshot.getVersion()) {
+            List<SwaggerResource> resources = resources(snapshot.groups());
+            current = new Listing(
+                    snapshot.getVersion(),
+                    resources,
+                    new PrecomputedJson(jsonSerializer.toJsonBytes(resources), null));
+            listing = current;
+        }
+        return current;
+    }
+
+    private List<SwaggerResource> resources(Map<String, String> groups) {
+        List<SwaggerResource> resources = new ArrayList<>();
 
-        for (Map.Entry<String, Documentation> entry : documentationCache.all().entrySet()) {
-            Documentation value = entry.getValue();
-            String documentationType = value.getDocumentationType();
+        for (Map.Entry<String, String> entry : groups.entrySet()) {
+            String documentationType = entry.getValue();
             String swaggerGroup = entry.getKey();
             switch (documentationType) {
                 case "swagger_2.0": {
@@ -127,16 +170,22 @@ public class InMemorySwaggerResourcesProvider implements SwaggerResourcesProvide
             }
         }
         Collections.sort(resources);
-        return resources;
+        return Collections.unmodifiableList(resources);
     }
 
 
     private SwaggerResource resource(
             String swaggerGroup,
             String baseUrl) {
+        return swaggerResource(swaggerGroup, swaggerLocation(baseUrl, swaggerGroup));
+    }
+
+    private static SwaggerResource swaggerResource(
+            String swaggerGroup,
+            String url) {
         SwaggerResource swaggerResource = new SwaggerResource();
         swaggerResource.setName(swaggerGroup);
-        swaggerResource.setUrl(swaggerLocation(baseUrl, swaggerGroup));
+        swaggerResource.setUrl(url);
         return swaggerResource;
     }
 
@@ -164,4 +213,16 @@ public class InMemorySwaggerResourcesProvider implements SwaggerResourcesProvide
                 .isPresent()
                 || classByName("springfox.documentation.oas.web.OpenApiControllerWebMvc", classLoader).isPresent());
     }
+
+    private static class Listing {
+        private final long version;
+        private final List<SwaggerResource> resources;
+        private final PrecomputedJson json;
+
+        Listing(long version, List<SwaggerResource> resources, PrecomputedJson json) {
+            this.version = version;
+            this.resources = resources;
+            this.json = json;
+        }
+    }
 }
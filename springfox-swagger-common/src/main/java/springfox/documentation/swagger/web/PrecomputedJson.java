@@ -0,0 +1,51 @@
+/*
+ *
+ *  Copyright 2017-2019 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.swagger.web;
+
+import springfox.documentation.spring.web.EntityTags;
+
+/**
+ * A json payload serialized once and served as is, with its strong entity tag.
+ */
+public class PrecomputedJson {
+  private final byte[] json;
+  private final String entityTag;
+
+  public PrecomputedJson(byte[] json, String prefix) {
+    this.json = json;
+    this.entityTag = prefix == null
+                     ? EntityTags.entityTag(EntityTags.digest(json))
+                     : EntityTags.entityTag(prefix, EntityTags.digest(json));
+  }
+
+  /**
+   * @return the serialized payload, it must not be modified
+   */
+  public byte[] getJson() {
+    return json;
+  }
+
+  /**
+   * @return the quoted entity tag, derived from the payload
+   */
+  public String getEntityTag() {
+    return entityTag;
+  }
+}
@@ -63,6 +63,7 @@ public class OpenApiAutoConfiguration implements BeanFactoryAware {
                 .getDocumentationType())
                 .enable(property.getEnable())
                 .groupName(property.getGroup())
+                .modernModelsOnly(Boolean.TRUE.equals(property.getModernModelsOnly()))
                 .ignoredParameterTypes(property.getIgnoredParameterTypes().toArray(new Class[0]))
                 .globalRequestParameters(parameters.stream().map(SwaggerProperties.Parameter::toRequestParameter).collect(Collectors.toList()))
                 .apiInfo(new ApiInfoBuilder()
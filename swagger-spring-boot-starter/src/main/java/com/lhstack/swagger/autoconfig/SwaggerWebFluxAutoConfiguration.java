@@ -1,5 +1,6 @@
 package com.lhstack.swagger.autoconfig;
 
+import com.lhstack.swagger.filters.BasicAuthenticator;
 import com.lhstack.swagger.filters.BasicFilter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -7,6 +8,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplicat
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
@@ -18,6 +21,7 @@ import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Arrays;
 
 /**
  * @author lhstack
@@ -49,45 +53,55 @@ public class SwaggerWebFluxAutoConfiguration {
     public WebFilter securityBasicAuthFilter(
             @Value("${knife4j.basic.username:admin}") String username,
             @Value("${knife4j.basic.password:123456}") String password,
-            @Value("${knife4j.basic.enable:false}") Boolean enableBasicAuth
+            @Value("${knife4j.basic.enable:false}") Boolean enableBasicAuth,
+            @Value("${knife4j.basic.include-paths:}") String[] includePaths,
+            @Value("${knife4j.basic.stateless:false}") boolean stateless,
+            @Value("${knife4j.basic.secret:}") String secret,
+            @Value("${knife4j.basic.token-ttl:30m}") Duration tokenTtl
     ) {
+        BasicAuthenticator authenticator = new BasicAuthenticator(username, password, secret, tokenTtl);
 
         class SecurityBasicAuthWebFilter extends BasicFilter implements WebFilter {
 
+            SecurityBasicAuthWebFilter() {
+                super(Arrays.asList(includePaths));
+            }
+
+            /**
+             * 先匹配路径,非文档请求不触碰session
+             */
             @Override
             public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
                 ServerHttpRequest request = exchange.getRequest();
+                if (!enableBasicAuth || !this.match(request.getPath().value())) {
+                    return chain.filter(exchange);
+                }
+                String auth = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+                if (stateless) {
+                    HttpCookie token = request.getCookies().getFirst(BasicAuthenticator.TOKEN_COOKIE);
+                    if (authenticator.verifyToken(token != null ? token.getValue() : null)) {
+                        return chain.filter(exchange);
+                    }
+                    if (authenticator.authenticate(auth)) {
+                        exchange.getResponse().addCookie(authenticator.tokenCookie(request.getSslInfo() != null));
+                        return chain.filter(exchange);
+                    }
+                    return writeForbiddenCode(exchange);
+                }
                 return exchange.getSession().flatMap(session -> {
-                    if (enableBasicAuth) {
-                        if (this.match(request.getPath().toString())) {
-                            Object swaggerSessionValue = session.getAttribute("SwaggerBootstrapUiBasicAuthSession");
-                            if (swaggerSessionValue != null) {
-                                return chain.filter(exchange);
-                            } else {
-                                String auth = request.getHeaders().getFirst("Authorization");
-                                if (auth != null && !"".equals(auth)) {
-                                    String userAndPass = this.decodeBase64(auth.substring(6));
-                                    String[] upArr = userAndPass.split(":");
-                                    if (upArr.length != 2) {
-                                        return writeForbiddenCode(exchange);
-                                    }
-                                    String iptUser = upArr[0];
-                                    String iptPass = upArr[1];
-                                    if (iptUser.equals(username) && iptPass.equals(password)) {
-                                        session.getAttributes().put("SwaggerBootstrapUiBasicAuthSession", username);
-                                        return chain.filter(exchange);
-                                    }
-                                    return writeForbiddenCode(exchange);
-                                }
-                                return writeForbiddenCode(exchange);
-                            }
-                        }
+                    Object swaggerSessionValue = session.getAttribute(BasicAuthenticator.SESSION_ATTRIBUTE);
+                    if (swaggerSessionValue != null) {
+                        return chain.filter(exchange);
                     }
-                    return chain.filter(exchange);
+                    if (authenticator.authenticate(auth)) {
+                        session.getAttributes().put(BasicAuthenticator.SESSION_ATTRIBUTE, username);
+                        return chain.filter(exchange);
+                    }
+                    return writeForbiddenCode(exchange);
                 });
             }
 
-            private Mono<? extends Void> writeForbiddenCode(ServerWebExchange exchange) {
+            private Mono<Void> writeForbiddenCode(ServerWebExchange exchange) {
                 ServerHttpResponse response = exchange.getResponse();
                 response.setStatusCode(HttpStatus.UNAUTHORIZED);
                 response.getHeaders().add("WWW-Authenticate", "Basic realm=\"input Swagger Basic userName & password \"");
@@ -1,5 +1,6 @@
 package com.lhstack.swagger.autoconfig;
 
+import com.lhstack.swagger.filters.BasicAuthenticator;
 import com.lhstack.swagger.filters.BasicFilter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -7,6 +8,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
@@ -14,10 +16,12 @@ import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import javax.servlet.*;
+import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.Arrays;
 
 /**
  * @author lhstack
@@ -68,10 +72,20 @@ public class SwaggerWebMvcAutoConfiguration {
     public Filter securityBasicAuthFilter(
             @Value("${knife4j.basic.username:admin}") String username,
             @Value("${knife4j.basic.password:123456}") String password,
-            @Value("${knife4j.basic.enable:false}") Boolean enableBasicAuth
+            @Value("${knife4j.basic.enable:false}") Boolean enableBasicAuth,
+            @Value("${knife4j.basic.include-paths:}") String[] includePaths,
+            @Value("${knife4j.basic.stateless:false}") boolean stateless,
+            @Value("${knife4j.basic.secret:}") String secret,
+            @Value("${knife4j.basic.token-ttl:30m}") Duration tokenTtl
     ) {
+        BasicAuthenticator authenticator = new BasicAuthenticator(username, password, secret, tokenTtl);
 
         class SecurityBasicAuthFilter extends BasicFilter implements Filter {
+
+            SecurityBasicAuthFilter() {
+                super(Arrays.asList(includePaths));
+            }
+
             private void writeForbiddenCode(HttpServletResponse httpServletResponse) throws IOException {
                 httpServletResponse.setStatus(401);
                 httpServletResponse.setHeader("WWW-Authenticate", "Basic realm=\"input Swagger Basic userName & password \"");
@@ -82,38 +96,46 @@ public class SwaggerWebMvcAutoConfiguration {
             public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
                 HttpServletRequest servletRequest = (HttpServletRequest) request;
                 HttpServletResponse httpServletResponse = (HttpServletResponse) response;
-                if (enableBasicAuth) {
-                    if (this.match(servletRequest.getRequestURI())) {
-                        Object swaggerSessionValue = servletRequest.getSession().getAttribute("SwaggerBootstrapUiBasicAuthSession");
-                        if (swaggerSessionValue != null) {
-                            chain.doFilter(request, response);
-                        } else {
-                            String auth = servletRequest.getHeader("Authorization");
-                            if (auth != null && !"".equals(auth)) {
-                                String userAndPass = this.decodeBase64(auth.substring(6));
-                                String[] upArr = userAndPass.split(":");
-                                if (upArr.length != 2) {
-                                    this.writeForbiddenCode(httpServletResponse);
-                                    return;
-                                }
-                                String iptUser = upArr[0];
-                                String iptPass = upArr[1];
-                                if (iptUser.equals(username) && iptPass.equals(password)) {
-                                    servletRequest.getSession().setAttribute("SwaggerBootstrapUiBasicAuthSession", username);
-                                    chain.doFilter(request, response);
-                                    return;
-                                }
-                                this.writeForbiddenCode(httpServletResponse);
-                                return;
-                            }
-                            this.writeForbiddenCode(httpServletResponse);
-                        }
-                    } else {
+                if (!enableBasicAuth || !this.match(servletRequest.getRequestURI())) {
+                    chain.doFilter(request, response);
+                    return;
+                }
+                if (stateless) {
+                    if (authenticator.verifyToken(tokenOf(servletRequest))) {
                         chain.doFilter(request, response);
+                        return;
                     }
-                } else {
+                    if (authenticator.authenticate(servletRequest.getHeader("Authorization"))) {
+                        httpServletResponse.addHeader(
+                                HttpHeaders.SET_COOKIE,
+                                authenticator.tokenCookie(servletRequest.isSecure()).toString());
+                        chain.doFilter(request, response);
+                        return;
+                    }
+                    this.writeForbiddenCode(httpServletResponse);
+                    return;
+                }
+                Object swaggerSessionValue = servletRequest.getSession().getAttribute(BasicAuthenticator.SESSION_ATTRIBUTE);
+                if (swaggerSessionValue != null) {
+                    chain.doFilter(request, response);
+                } else if (authenticator.authenticate(servletRequest.getHeader("Authorization"))) {
+                    servletRequest.getSession().setAttribute(BasicAuthenticator.SESSION_ATTRIBUTE, username);
                     chain.doFilter(request, response);
+                } else {
+                    this.writeForbiddenCode(httpServletResponse);
+                }
+            }
+
+            private String tokenOf(HttpServletRequest servletRequest) {
+                Cookie[] cookies = servletRequest.getCookies();
+                if (cookies != null) {
+                    for (Cookie cookie : cookies) {
+                        if (BasicAuthenticator.TOKEN_COOKIE.equals(cookie.getName())) {
+                            return cookie.getValue();
+                        }
+                    }
                 }
+                return null;
             }
         }
         return new SecurityBasicAuthFilter();
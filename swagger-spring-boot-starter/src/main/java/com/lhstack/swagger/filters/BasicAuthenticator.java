@@ -0,0 +1,154 @@
+package com.lhstack.swagger.filters;
+
+import org.springframework.http.ResponseCookie;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * basic认证的凭证校验,所有比较均为常量时间
+ * <p>
+ * 无状态模式下认证结果不放入session,而是签发一个HMAC-SHA256签名的cookie,内容为过期时间与签名,
+ * 签名覆盖用户名与密码的摘要,修改用户名或密码后已签发的cookie随即失效,
+ * 未配置密钥时使用进程内随机密钥,多实例部署需配置相同的knife4j.basic.secret
+ *
+ * @author lhstack
+ * @class BasicAuthenticator
+ * @since 1.8
+ */
+public class BasicAuthenticator {
+    public static final String SESSION_ATTRIBUTE = "SwaggerBootstrapUiBasicAuthSession";
+    public static final String TOKEN_COOKIE = "knife4j_basic";
+
+    private static final String BASIC_PREFIX = "Basic ";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final String username;
+    private final byte[] credentialsDigest;
+    private final SecretKeySpec key;
+    private final Duration tokenTtl;
+
+    public BasicAuthenticator(String username, String password) {
+        this(username, password, null, Duration.ofMinutes(30));
+    }
+
+    /**
+     * @param username 用户名
+     * @param password 密码
+     * @param secret   cookie签名密钥,为空时使用进程内随机密钥
+     * @param tokenTtl cookie有效期
+     */
+    public BasicAuthenticator(String username, String password, String secret, Duration tokenTtl) {
+        this.username = username;
+        this.credentialsDigest = sha256((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        this.key = new SecretKeySpec(secretKey(secret), HMAC_ALGORITHM);
+        this.tokenTtl = tokenTtl;
+    }
+
+    private static byte[] secretKey(String secret) {
+        if (StringUtils.hasText(secret)) {
+            return sha256(secret.getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return random;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * 校验Authorization请求头,先对凭证做摘要再比较,比较时间与凭证内容及长度无关
+     *
+     * @param authorization Authorization请求头
+     * @return 凭证是否正确
+     */
+    public boolean authenticate(String authorization) {
+        if (authorization == null || !authorization.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+            return false;
+        }
+        byte[] credentials;
+        try {
+            credentials = Base64.getDecoder().decode(authorization.substring(BASIC_PREFIX.length()).trim());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(sha256(credentials), credentialsDigest);
+    }
+
+    /**
+     * @return 无状态模式下签发的cookie值,格式为过期时间(秒).签名
+     */
+    public String issueToken() {
+        String expiresAt = Long.toString(System.currentTimeMillis() / 1000 + tokenTtl.getSeconds());
+        return expiresAt + "." + sign(expiresAt);
+    }
+
+    /**
+     * @param token cookie值,可以为空
+     * @return 签名正确且未过期
+     */
+    public boolean verifyToken(String token) {
+        if (token == null) {
+            return false;
+        }
+        int separator = token.indexOf('.');
+        if (separator <= 0) {
+            return false;
+        }
+        String expiresAt = token.substring(0, separator);
+        long expiresAtSeconds;
+        try {
+            expiresAtSeconds = Long.parseLong(expiresAt);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        boolean signed = MessageDigest.isEqual(
+                sign(expiresAt).getBytes(StandardCharsets.US_ASCII),
+                token.substring(separator + 1).getBytes(StandardCharsets.US_ASCII));
+        return signed && expiresAtSeconds > System.currentTimeMillis() / 1000;
+    }
+
+    /**
+     * @param secure 请求是否为https
+     * @return 携带新签发token的cookie
+     */
+    public ResponseCookie tokenCookie(boolean secure) {
+        return ResponseCookie.from(TOKEN_COOKIE, issueToken())
+                .path("/")
+                .maxAge(tokenTtl)
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite("Lax")
+                .build();
+    }
+
+    private String sign(String expiresAt) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            mac.update(credentialsDigest);
+            byte[] signature = mac.doFinal(("\n" + expiresAt).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] sha256(byte[] value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
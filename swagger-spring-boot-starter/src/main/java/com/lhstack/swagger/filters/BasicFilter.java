@@ -2,68 +2,148 @@ package com.lhstack.swagger.filters;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
-import java.util.Iterator;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.regex.Pattern;
 
 /**
+ * 文档相关路径的basic认证基类,请求路径中任意位置包含受保护路径(忽略大小写)即视为匹配
+ *
  * @author lhstack
  * @date 2021/9/30
  * @class BaseFilter
  * @since 1.8
  */
 public class BasicFilter {
+    /**
+     * 默认受保护的路径,/v2/api-docs-ext、/swagger-ui.html、/swagger-resources/configuration/** 已被前缀覆盖
+     */
+    private static final List<String> DEFAULT_PATHS = Collections.unmodifiableList(Arrays.asList(
+            "/doc.html",
+            "/v2/api-docs",
+            "/v3/api-docs",
+            "/swagger-resources",
+            "/swagger-ui"));
+
     private final Logger logger = LoggerFactory.getLogger(BasicFilter.class);
-    protected List<Pattern> urlFilters = null;
+    /**
+     * 受保护路径对应的正则,仅为兼容保留,修改它不会影响{@link #match(String)},额外的路径请通过构造参数配置
+     *
+     * @deprecated 使用{@link #getPaths()}
+     */
+    @Deprecated
+    protected List<Pattern> urlFilters;
+    private final String[] paths;
+    /**
+     * 受保护路径中'/'后的首字符(ASCII,大小写),用于快速跳过不可能匹配的位置
+     */
+    private final boolean[] leadingChars = new boolean[128];
+    private final boolean nonAsciiLeadingChar;
 
     public BasicFilter() {
-        this.urlFilters = new ArrayList();
-        this.urlFilters.add(Pattern.compile(".*?/doc\\.html.*", 2));
-        this.urlFilters.add(Pattern.compile(".*?/v2/api-docs.*", 2));
-        this.urlFilters.add(Pattern.compile(".*?/v3/api-docs.*", 2));
-        this.urlFilters.add(Pattern.compile(".*?/v2/api-docs-ext.*", 2));
-        this.urlFilters.add(Pattern.compile(".*?/swagger-resources.*", 2));
-        this.urlFilters.add(Pattern.compile(".*?/swagger-ui\\.html.*", 2));
-        this.urlFilters.add(Pattern.compile(".*?/swagger-ui.*", 2));
-        this.urlFilters.add(Pattern.compile(".*?/swagger-resources/configuration/ui.*", 2));
-        this.urlFilters.add(Pattern.compile(".*?/swagger-resources/configuration/security.*", 2));
+        this(Collections.emptyList());
     }
 
-    protected boolean match(String uri) {
-        boolean match = false;
-        if (uri != null) {
-            Iterator var3 = this.getUrlFilters().iterator();
+    /**
+     * @param includePaths 额外受保护的路径,与默认路径一样按片段匹配,末尾的通配符会被忽略,如/actuator/**等同于/actuator/
+     */
+    public BasicFilter(Collection<String> includePaths) {
+        List<String> all = new ArrayList<>(DEFAULT_PATHS);
+        for (String each : includePaths) {
+            String path = normalize(each);
+            if (path != null && !all.contains(path)) {
+                all.add(path);
+            }
+        }
+        this.paths = all.toArray(new String[0]);
+        boolean nonAscii = false;
+        for (String path : paths) {
+            char leading = path.charAt(1);
+            char lower = Character.toLowerCase(leading);
+            char upper = Character.toUpperCase(leading);
+            if (lower < 128 && upper < 128) {
+                leadingChars[lower] = true;
+                leadingChars[upper] = true;
+            } else {
+                nonAscii = true;
+            }
+        }
+        this.nonAsciiLeadingChar = nonAscii;
+        this.urlFilters = new ArrayList<>();
+        for (String path : paths) {
+            this.urlFilters.add(Pattern.compile(".*?" + Pattern.quote(path) + ".*", Pattern.CASE_INSENSITIVE));
+        }
+    }
 
-            while(var3.hasNext()) {
-                Pattern pattern = (Pattern)var3.next();
-                if (pattern.matcher(uri).matches()) {
-                    match = true;
-                    break;
+    private static String normalize(String path) {
+        if (!StringUtils.hasText(path)) {
+            return null;
+        }
+        String trimmed = StringUtils.trimTrailingCharacter(path.trim(), '*');
+        if (!trimmed.startsWith("/")) {
+            trimmed = "/" + trimmed;
+        }
+        return trimmed.length() > 1 ? trimmed : null;
+    }
+
+    /**
+     * 只做字符比较,不分配对象,业务请求不匹配时的开销与路径中'/'的个数成正比
+     */
+    protected boolean match(String uri) {
+        if (uri == null) {
+            return false;
+        }
+        int length = uri.length();
+        for (int slash = uri.indexOf('/'); slash >= 0 && slash + 1 < length; slash = uri.indexOf('/', slash + 1)) {
+            char next = uri.charAt(slash + 1);
+            if (next < 128 ? !leadingChars[next] : !nonAsciiLeadingChar) {
+                continue;
+            }
+            for (String path : paths) {
+                if (uri.regionMatches(true, slash, path, 0, path.length())) {
+                    return true;
                 }
             }
         }
-
-        return match;
+        return false;
     }
 
+    /**
+     * @deprecated 认证已由{@link BasicAuthenticator}完成,不再使用
+     */
+    @Deprecated
     protected String decodeBase64(String source) {
         String decodeStr = null;
         if (source != null) {
             try {
                 byte[] bytes = Base64.getDecoder().decode(source);
                 decodeStr = new String(bytes);
-            } catch (Exception var4) {
-                this.logger.error(var4.getMessage(), var4);
+            } catch (Exception e) {
+                this.logger.error(e.getMessage(), e);
             }
         }
-
         return decodeStr;
     }
 
+    /**
+     * @return 受保护路径对应的正则,与{@link #match(String)}的匹配结果一致
+     * @deprecated 使用{@link #getPaths()}
+     */
+    @Deprecated
     public List<Pattern> getUrlFilters() {
         return this.urlFilters;
     }
-}
\ No newline at end of file
+
+    /**
+     * @return 受保护的路径,包括默认路径与额外配置的路径
+     */
+    public List<String> getPaths() {
+        return Collections.unmodifiableList(Arrays.asList(paths));
+    }
+}
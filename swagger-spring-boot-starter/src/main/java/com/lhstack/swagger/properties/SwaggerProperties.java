@@ -377,6 +377,11 @@ public class SwaggerProperties {
          */
         private List<Parameter> parameters = Collections.emptyList();
 
+        /**
+         * 仅解析新版模型(ModelSpecification)，跳过已废弃的模型解析，只对OAS_30文档生效
+         */
+        private Boolean modernModelsOnly = false;
+
         public DocumentType getDocumentType() {
             return documentType;
         }
@@ -505,17 +510,25 @@ public class SwaggerProperties {
             this.parameters = parameters;
         }
 
+        public Boolean getModernModelsOnly() {
+            return modernModelsOnly;
+        }
+
+        public void setModernModelsOnly(Boolean modernModelsOnly) {
+            this.modernModelsOnly = modernModelsOnly;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             Properties that = (Properties) o;
-            return documentType == that.documentType && Objects.equals(ignoredParameterTypes, that.ignoredParameterTypes) && Objects.equals(title, that.title) && Objects.equals(version, that.version) && Objects.equals(contactName, that.contactName) && Objects.equals(contactUrl, that.contactUrl) && Objects.equals(license, that.license) && Objects.equals(licenseUrl, that.licenseUrl) && Objects.equals(termsOfServiceUrl, that.termsOfServiceUrl) && Objects.equals(description, that.description) && Objects.equals(contactEmail, that.contactEmail) && Objects.equals(group, that.group) && Objects.equals(tags, that.tags) && Objects.equals(enable, that.enable) && Objects.equals(basePackage, that.basePackage) && Objects.equals(parameters, that.parameters);
+            return documentType == that.documentType && Objects.equals(ignoredParameterTypes, that.ignoredParameterTypes) && Objects.equals(title, that.title) && Objects.equals(version, that.version) && Objects.equals(contactName, that.contactName) && Objects.equals(contactUrl, that.contactUrl) && Objects.equals(license, that.license) && Objects.equals(licenseUrl, that.licenseUrl) && Objects.equals(termsOfServiceUrl, that.termsOfServiceUrl) && Objects.equals(description, that.description) && Objects.equals(contactEmail, that.contactEmail) && Objects.equals(group, that.group) && Objects.equals(tags, that.tags) && Objects.equals(enable, that.enable) && Objects.equals(basePackage, that.basePackage) && Objects.equals(parameters, that.parameters) && Objects.equals(modernModelsOnly, that.modernModelsOnly);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(documentType, ignoredParameterTypes, title, version, contactName, contactUrl, license, licenseUrl, termsOfServiceUrl, description, contactEmail, group, tags, enable, basePackage, parameters);
+            return Objects.hash(documentType, ignoredParameterTypes, title, version, contactName, contactUrl, license, licenseUrl, termsOfServiceUrl, description, contactEmail, group, tags, enable, basePackage, parameters, modernModelsOnly);
         }
 
         @Override
@@ -537,6 +550,7 @@ public class SwaggerProperties {
                     ", enable=" + enable +
                     ", basePackage='" + basePackage + '\'' +
                     ", parameters=" + parameters +
+                    ", modernModelsOnly=" + modernModelsOnly +
                     '}';
         }
     }